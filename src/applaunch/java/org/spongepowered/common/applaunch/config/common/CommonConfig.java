@@ -97,6 +97,10 @@ public final class CommonConfig implements Config {
     @Setting
     public final WorldCategory world = new WorldCategory();
 
+    @Setting
+    @Comment("Configuration options related to world pre-generation, see '/sponge pregen'")
+    public final PregenCategory pregen = new PregenCategory();
+
     public static ConfigurationTransformation transformation() {
         return ConfigurationTransformation.versionedBuilder()
             .makeVersion(1, builder -> {
@@ -74,7 +74,12 @@ public final class OptimizationCategory {
            + "change, the default will be 'false' due to the inability to pre-emptively\n"
            + "foretell whether mod compatibility will fail with these changes or not.\n"
            + "Refer to: https://github.com/PaperMC/Paper/blob/8175ec916f31dcd130fe0884fe46bdc187d829aa/Spigot-Server-Patches/0269-Optimize-Hoppers.patch\n"
-           + "for more details.")
+           + "for more details.\n"
+           + "Additionally, hoppers will cache the containers they push into and\n"
+           + "pull from, skip searching for container entities in chunks that have\n"
+           + "none, and skip transfers that are known to fail because neither side\n"
+           + "changed since the last attempt (only while no transfer pre event\n"
+           + "listeners are registered).")
     public boolean optimizeHoppers = false;
 
     @Setting("optimize-block-entity-ticking")
@@ -83,6 +88,30 @@ public final class OptimizationCategory {
         + "See https://github.com/PaperMC/Paper/blob/bb4002d82e355f033906fc894cc2320f665ba72d/Spigot-Server-Patches/0022-Optimize-TileEntity-Ticking.patch")
     public boolean optimizeBlockEntityTicking = true;
 
+    @Setting("parallel-explosion-rays")
+    @Comment("If 'true', explosions cast their block breaking rays on multiple\n"
+           + "threads while the server thread waits for the result. This only\n"
+           + "applies to explosions without a source or caused by primed TNT,\n"
+           + "since other sources may compute block resistance in ways that are\n"
+           + "not safe to run off the server thread.")
+    public boolean parallelExplosionRays;
+
+    @Setting("skip-unchanged-chunk-writes")
+    @Comment("If 'true', chunks whose serialized data is identical to the data\n"
+           + "they were last saved with are not compressed and written to their\n"
+           + "region file again. This mostly helps worlds with many static chunks\n"
+           + "that contain entities, which Vanilla saves on every auto-save.\n"
+           + "Note: Comparing the data means serializing every saved chunk once\n"
+           + "more on the server thread, which may cost more than it saves.")
+    public boolean skipUnchangedChunkWrites;
+
+    @Setting("cache-chunk-section-serialization")
+    @Comment("If 'true', the serialized block palette and states of every chunk\n"
+           + "section are kept in memory and reused by later saves until a block\n"
+           + "in the section changes. This trades memory, roughly the size of the\n"
+           + "block storage of all loaded sections, for less work when saving.")
+    public boolean cacheChunkSectionSerialization = false;
+
     @Setting("use-active-chunks-for-collisions")
     @Comment("Vanilla performs a lot of is area loaded checks during\n"
                + "entity collision calculations with blocks, and because\n"
@@ -129,5 +158,6 @@ public OptimizationCategory() {
         // Enabled by default on SpongeVanilla, disabled by default on SpongeForge.
         // Because of how early this constructor gets called, we can't use SpongeImplHooks or even Game
         this.dropsPreMerge = AppLaunch.pluginPlatform().vanilla();
+        this.parallelExplosionRays = AppLaunch.pluginPlatform().vanilla();
     }
 }
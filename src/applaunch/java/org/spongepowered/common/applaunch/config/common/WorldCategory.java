@@ -40,6 +40,13 @@ public final class WorldCategory {
                                                           + "Note: 20 ticks is equivalent to 1 second. Set to 0 to disable.")
     public int playerAutoSaveInterval = 6000;
 
+    @Setting(value = "auto-save-budget")
+    @Comment("The time in milliseconds each tick may spend saving chunks queued by world auto-saves. (Default: 5) \n"
+                                                          + "Auto-saves queue the changed chunks of a world, which are then saved over the following \n"
+                                                          + "ticks, longest waiting first, rotating through worlds. Set to 0 to save all chunks of a \n"
+                                                          + "world on its auto-save tick.")
+    public int autoSaveBudget = 5;
+
     @Setting(value = "leaf-decay")
     @Comment("If 'true', natural leaf decay is allowed.")
     public boolean leafDecay = true;
@@ -50,6 +50,7 @@
 import org.spongepowered.common.event.lifecycle.RegisterFactoryEventImpl;
 import org.spongepowered.common.event.manager.SpongeEventManager;
 import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.inventory.lens.impl.LensRegistrar;
 import org.spongepowered.common.launch.Lifecycle;
 import org.spongepowered.common.network.channel.SpongeChannelManager;
 import org.spongepowered.common.profile.SpongeGameProfileManager;
@@ -157,6 +158,7 @@ public void establishServerFeatures() {
         Sponge.server().serviceProvider().contextService().registerContextCalculator(new SpongeContextCalculator());
         // Yes this looks odd but prevents having to do sided lifecycle solely to always point at the Server
         ((SpongeServer) this.game.server()).getUsernameCache().load();
+        LensRegistrar.prewarm();
     }
 
     // Methods are in order of the SpongeCommon lifecycle
@@ -41,16 +41,24 @@
 
 import java.util.List;
 import java.util.Locale;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class AdventureTextComponent implements net.minecraft.network.chat.Component, BaseComponentBridge {
+
+    /**
+     * The maximum number of locales a single component will keep rendered
+     * copies for. Broadcasts rarely reach more than a handful of distinct
+     * locales, this only guards against unbounded growth.
+     */
+    private static final int MAX_CACHED_LOCALES = 16;
+
     private net.minecraft.network.chat.@MonotonicNonNull Component converted;
     private @Nullable Locale deepConvertedLocalized;
     private final net.kyori.adventure.text.Component wrapped;
     private final @Nullable ComponentRenderer<Locale> renderer;
-    private @Nullable Locale lastLocale;
-    private @Nullable AdventureTextComponent lastRendered;
+    private @MonotonicNonNull Map<Locale, AdventureTextComponent> renderCache;
 
     public AdventureTextComponent(final net.kyori.adventure.text.Component wrapped, final @Nullable ComponentRenderer<Locale> renderer) {
         this.wrapped = wrapped;
@@ -65,12 +73,27 @@ public net.kyori.adventure.text.Component wrapped() {
         return this.wrapped;
     }
 
-    public synchronized AdventureTextComponent rendered(final Locale locale) {
-        if (Objects.equals(locale, this.lastLocale)) {
-            return this.lastRendered;
+    public AdventureTextComponent rendered(final Locale locale) {
+        if (this.renderer == null) {
+            return this;
+        }
+        Map<Locale, AdventureTextComponent> cache = this.renderCache;
+        if (cache == null) {
+            // Racing threads may each create a map, losing one is harmless
+            cache = this.renderCache = new ConcurrentHashMap<>(4);
+        }
+        final AdventureTextComponent cached = cache.get(locale);
+        if (cached != null) {
+            return cached;
+        }
+        // Each rendered copy keeps its own deep converted vanilla component,
+        // so a cache hit also skips the conversion for that locale
+        final AdventureTextComponent rendered = new AdventureTextComponent(this.renderer.render(this.wrapped, locale), null);
+        if (cache.size() >= AdventureTextComponent.MAX_CACHED_LOCALES) {
+            return rendered;
         }
-        this.lastLocale = locale;
-        return this.lastRendered = this.renderer == null ? this : new AdventureTextComponent(this.renderer.render(this.wrapped, locale), null);
+        final AdventureTextComponent existing = cache.putIfAbsent(locale, rendered);
+        return existing == null ? rendered : existing;
     }
 
     net.minecraft.network.chat.Component deepConverted() {
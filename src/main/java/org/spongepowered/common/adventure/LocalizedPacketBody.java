@@ -0,0 +1,73 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.adventure;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import org.spongepowered.api.util.locale.Locales;
+import org.spongepowered.common.bridge.network.FriendlyByteBufBridge;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Holds the encoded body of a single packet instance per {@link Locale}.
+ *
+ * <p>A broadcast sends the same packet instance to every connection, but the
+ * components inside of it are localized while being written. Rather than
+ * rendering and serializing the packet once per recipient, the body is
+ * serialized once per distinct locale and the resulting bytes are copied
+ * into each connection's outgoing buffer.</p>
+ *
+ * <p>The cached buffers are unpooled heap buffers which are never written to
+ * after creation, they can safely be read from multiple netty threads at once
+ * and are reclaimed together with the packet.</p>
+ */
+public final class LocalizedPacketBody {
+
+    private final Map<Locale, ByteBuf> encoded = new ConcurrentHashMap<>(4);
+
+    /**
+     * Writes the body for the locale of the target buffer, encoding it
+     * with the given writer if no other recipient shared the locale yet.
+     *
+     * @param target The connection's outgoing buffer
+     * @param writer The packet's serialization logic
+     */
+    public void write(final FriendlyByteBuf target, final Consumer<FriendlyByteBuf> writer) {
+        final Locale targetLocale = ((FriendlyByteBufBridge) target).bridge$getLocale();
+        final Locale locale = targetLocale == null ? Locales.EN_US : targetLocale;
+        final ByteBuf body = this.encoded.computeIfAbsent(locale, key -> {
+            final FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+            ((FriendlyByteBufBridge) buffer).bridge$setLocale(key);
+            writer.accept(buffer);
+            return buffer.unwrap().asReadOnly();
+        });
+        target.writeBytes(body, body.readerIndex(), body.readableBytes());
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.block.entity;
+
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.bridge.activation.ActivationCapabilityBridge;
+import org.spongepowered.common.config.SpongeGameConfigs;
+import org.spongepowered.common.config.inheritable.BlockEntityActivationCategory;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides which block entities get to tick, for the block entity activation
+ * module.
+ *
+ * <p>Every block entity ticks once per its configured tick rate. On top of
+ * that, each world measures how long every block entity type takes to tick,
+ * and while the server's average tick time is above the configured target,
+ * the most expensive type is slowed down further once per second, up to the
+ * configured maximum. Once the server has caught up, slowed down types are
+ * sped up again.</p>
+ *
+ * <p>Only ever accessed from the server thread.</p>
+ */
+public final class BlockEntityActivation {
+
+    // How many world ticks are measured before tick rates are adjusted
+    private static final int ADJUSTMENT_INTERVAL = 20;
+
+    private static final Map<ResourceKey<Level>, LevelState> levels = new HashMap<>();
+
+    private BlockEntityActivation() {
+    }
+
+    /**
+     * Resolves the configured tick rate of a block entity.
+     *
+     * @param blockEntity The block entity
+     */
+    public static void initializeActivationState(final BlockEntity blockEntity) {
+        final ActivationCapabilityBridge activation = (ActivationCapabilityBridge) blockEntity;
+        final BlockEntityActivationCategory config = SpongeGameConfigs.getForWorld(blockEntity.getLevel()).get().blockEntityActivation;
+        final @Nullable ResourceLocation key = BlockEntityType.getKey(blockEntity.getType());
+        final BlockEntityActivationCategory.@Nullable MobSubCategory mod = key == null ? null : config.mods.get(key.getNamespace());
+
+        int tickRate = config.defaultTickRate;
+        if (mod != null) {
+            if (!mod.enabled) {
+                activation.activation$setSpongeTickRate(1);
+                activation.activation$setDefaultActivationState(true);
+                return;
+            }
+            if (mod.defaultTickRate != null) {
+                tickRate = mod.defaultTickRate;
+            }
+            final @Nullable Integer typeTickRate = mod.tickRates.get(key.getPath());
+            if (typeTickRate != null) {
+                tickRate = typeTickRate;
+            }
+        }
+        activation.activation$setSpongeTickRate(Math.max(1, tickRate));
+        activation.activation$setDefaultActivationState(false);
+    }
+
+    /**
+     * Checks whether a block entity should tick this tick.
+     *
+     * @param blockEntity The block entity
+     * @return Whether the block entity should tick
+     */
+    public static boolean checkIfActive(final BlockEntity blockEntity) {
+        final ActivationCapabilityBridge activation = (ActivationCapabilityBridge) blockEntity;
+        if (activation.activation$requiresActivationCacheRefresh()) {
+            BlockEntityActivation.initializeActivationState(blockEntity);
+            activation.activation$requiresActivationCacheRefresh(false);
+        }
+        if (activation.activation$getDefaultActivationState()) {
+            return true;
+        }
+
+        activation.activation$incrementSpongeTicksExisted();
+        final @Nullable LevelState state = BlockEntityActivation.levels.get(blockEntity.getLevel().dimension());
+        final @Nullable TypeState type = state == null ? null : state.types.get(blockEntity.getType());
+        final int tickRate = Math.max(activation.activation$getSpongeTickRate(), type == null ? 1 : type.tickRate);
+        return tickRate <= 1 || activation.activation$getSpongeTicksExisted() % tickRate == 0;
+    }
+
+    /**
+     * Records the time a block entity took to tick, including the phase
+     * tracker's processing of the tick.
+     *
+     * @param blockEntity The block entity
+     * @param nanos The time taken
+     */
+    public static void recordTick(final BlockEntity blockEntity, final long nanos) {
+        final LevelState state = BlockEntityActivation.levels.computeIfAbsent(blockEntity.getLevel().dimension(), k -> new LevelState());
+        final TypeState type = state.types.computeIfAbsent(blockEntity.getType(), k -> new TypeState());
+        type.nanos += nanos;
+        type.ticks++;
+    }
+
+    /**
+     * Adjusts the tick rates of the block entity types of a world based on
+     * what they cost recently, to be called at the end of every world tick.
+     *
+     * @param level The world
+     */
+    public static void adjustTickRates(final ServerLevel level) {
+        final @Nullable LevelState state = BlockEntityActivation.levels.get(level.dimension());
+        if (state == null || ++state.elapsedTicks < BlockEntityActivation.ADJUSTMENT_INTERVAL) {
+            return;
+        }
+        state.elapsedTicks = 0;
+
+        final BlockEntityActivationCategory.AdaptiveSubCategory config = SpongeGameConfigs.getForWorld(level).get().blockEntityActivation.adaptive;
+        if (!config.enabled) {
+            state.types.clear();
+            return;
+        }
+
+        final double averageTickTime = Mth.average(level.getServer().tickTimes) * 1.0E-6D;
+        if (averageTickTime > config.targetTickTime) {
+            // Slow down whichever type took the most time overall, as long as each of its ticks is worth saving
+            final long minTickCost = TimeUnit.MICROSECONDS.toNanos(config.minTickCost);
+            @Nullable TypeState costliest = null;
+            for (final TypeState type : state.types.values()) {
+                if (type.tickRate < config.maxTickRate && type.ticks > 0 && type.nanos / type.ticks >= minTickCost
+                    && (costliest == null || type.nanos > costliest.nanos)) {
+                    costliest = type;
+                }
+            }
+            if (costliest != null) {
+                costliest.tickRate = Math.min(config.maxTickRate, costliest.tickRate * 2);
+            }
+        } else if (averageTickTime < config.targetTickTime * 0.8D) {
+            for (final TypeState type : state.types.values()) {
+                type.tickRate = Math.max(1, type.tickRate / 2);
+            }
+        }
+
+        for (final TypeState type : state.types.values()) {
+            type.nanos = 0;
+            type.ticks = 0;
+        }
+    }
+
+    /**
+     * Forgets everything measured for a world.
+     *
+     * @param level The world
+     */
+    public static void clear(final ServerLevel level) {
+        BlockEntityActivation.levels.remove(level.dimension());
+    }
+
+    private static final class LevelState {
+
+        final Map<BlockEntityType<?>, TypeState> types = new IdentityHashMap<>();
+        int elapsedTicks;
+    }
+
+    private static final class TypeState {
+
+        long nanos;
+        int ticks;
+        int tickRate = 1;
+    }
+
+}
@@ -27,4 +27,13 @@
 public interface HopperOptimizationBridge {
 
     void hopperBridge$setCancelDirtyUpdate(boolean canMarkDirty);
+
+    /**
+     * Gets a counter that is incremented every time the contents of this
+     * block entity are marked as changed, including the changes for which
+     * the dirty update was cancelled.
+     *
+     * @return The content version
+     */
+    int hopperBridge$contentVersion();
 }
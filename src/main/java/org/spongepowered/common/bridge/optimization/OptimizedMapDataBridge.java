@@ -35,11 +35,19 @@
  */
 public interface OptimizedMapDataBridge {
 
-    void mapOptimizationBridge$tickMap();
+    /**
+     * Updates the decorations of this map and sends its changes to every
+     * player viewing it, either by holding it or by tracking an item frame
+     * displaying it. Does nothing if the map was already ticked this tick.
+     *
+     * @param tickCount The current server tick
+     * @return True if the map still has viewers and should keep being ticked
+     */
+    boolean mapOptimizationBridge$tickMap(int tickCount);
 
     void mapOptimizationBridge$updatePlayer(Player player, ItemStack mapStack);
 
-    void mapOptimizationBridge$updateItemFrameDecoration(ItemFrame frame);
+    void mapOptimizationBridge$updateItemFrameDecoration(ItemFrame frame, ItemStack mapStack);
 
     void mapOptimizationBridge$removeItemFrame(ItemFrame frame);
 }
@@ -45,6 +45,10 @@ public interface MinecraftServerBridge {
 
     boolean bridge$performAutosaveChecks();
 
+    int bridge$autosaveChunksSavedLastTick();
+
+    int bridge$autosaveBacklog();
+
     SpongeUserManager bridge$userManager();
 
 }
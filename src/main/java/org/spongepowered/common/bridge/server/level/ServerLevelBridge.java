@@ -50,6 +50,8 @@ public interface ServerLevelBridge {
 
     void bridge$setManualSave(boolean state);
 
+    void bridge$setIncrementalAutosave(boolean state);
+
     BlockSnapshot bridge$createSnapshot(int x, int y, int z);
 
     long[] bridge$recentTickTimes();
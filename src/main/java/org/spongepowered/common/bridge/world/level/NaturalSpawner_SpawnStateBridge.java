@@ -26,9 +26,20 @@
 
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.MobCategory;
+import net.minecraft.world.level.NaturalSpawner;
 
 public interface NaturalSpawner_SpawnStateBridge {
 
+    /**
+     * Checks the world configured tick rate and spawn limit of the given
+     * category. The configuration is resolved once per spawn state, which
+     * is recreated every tick, so configuration changes apply on the next
+     * tick.
+     */
     boolean bridge$canSpawnForCategoryInWorld(MobCategory p_234991_1_, ServerLevel world);
 
+    NaturalSpawner.SpawnPredicate bridge$spawnPredicate();
+
+    NaturalSpawner.AfterSpawnCallback bridge$afterSpawnCallback();
+
 }
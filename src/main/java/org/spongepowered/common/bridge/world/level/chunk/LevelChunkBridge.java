@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.bridge.world.level.chunk;
 
+import com.google.common.hash.HashCode;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.util.Direction;
@@ -90,4 +91,14 @@ public interface LevelChunkBridge {
 
     boolean bridge$spawnEntity(Entity entity);
 
+    /**
+     * Gets the digest of the chunk data last written to storage, used to
+     * skip writing chunks whose data did not change since.
+     *
+     * @return The digest, or null if unknown
+     */
+    @Nullable HashCode bridge$getSavedDigest();
+
+    void bridge$setSavedDigest(@Nullable HashCode digest);
+
 }
@@ -24,10 +24,40 @@
  */
 package org.spongepowered.common.bridge.world.server;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.common.bridge.world.DistanceManagerBridge;
+import org.spongepowered.common.config.inheritable.EntityTrackerCategory;
 
 public interface ChunkMapBridge {
 
     DistanceManagerBridge bridge$distanceManager();
 
+    /**
+     * Gets the entity tracker config of this world, resolved once per tick.
+     *
+     * @return The config, or null if distant players receive every update
+     */
+    @Nullable EntityTrackerCategory bridge$entityTracker();
+
+    int bridge$trackerTick();
+
+    /**
+     * Queues the chunks changed since the last save to be saved by
+     * {@link #bridge$saveQueuedChunks(long, boolean)}. Chunks that are
+     * still queued keep their place, so the longest waiting chunks are
+     * saved first.
+     */
+    void bridge$queueUnsavedChunks();
+
+    /**
+     * Saves queued chunks until the deadline passes or the queue is empty.
+     *
+     * @param deadline The {@link System#nanoTime()} to stop at
+     * @param atLeastOne Whether to save one chunk even if the deadline passed
+     * @return The number of chunks saved
+     */
+    int bridge$saveQueuedChunks(long deadline, boolean atLeastOne);
+
+    int bridge$queuedChunkCount();
+
 }
@@ -38,6 +38,7 @@
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.ChunkPos;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.ResourceKey;
@@ -63,9 +64,12 @@
 import org.spongepowered.common.bridge.server.level.ServerLevelBridge;
 import org.spongepowered.common.bridge.world.level.LevelBridge;
 import org.spongepowered.common.config.SpongeGameConfigs;
+import org.spongepowered.common.entity.collision.EntityCollisionLimits;
 import org.spongepowered.common.event.manager.SpongeEventManager;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.launch.Launch;
+import org.spongepowered.common.world.server.SpongeWorldManager;
+import org.spongepowered.common.world.server.SpongeWorldPregenerator;
 import org.spongepowered.plugin.PluginContainer;
 import org.spongepowered.plugin.metadata.PluginMetadata;
 import org.spongepowered.plugin.metadata.model.PluginContributor;
@@ -129,6 +133,9 @@ public Command.Parameterized createSpongeCommand() {
                 .executor(this::heapSubcommandExecutor)
                 .build();
 
+        // /sponge pregen
+        final Command.Parameterized pregenCommand = this.pregenSubcommand();
+
         // /sponge plugins
         final Command.Parameterized pluginsReloadCommand = Command.builder()
                 .permission("sponge.command.plugins.refresh")
@@ -209,6 +216,7 @@ public Command.Parameterized createSpongeCommand() {
                 .addChild(auditCommand, "audit")
                 .addChild(chunksCommand, "chunks")
                 .addChild(heapCommand, "heap")
+                .addChild(pregenCommand, "pregen")
                 .addChild(pluginsCommand, "plugins")
                 .addChild(tpsCommand, "tps")
                 .addChild(versionCommand, "version")
@@ -427,6 +435,98 @@ private Command.Parameterized chunksSubcommand() {
                 .build();
     }
 
+    private Command.Parameterized pregenSubcommand() {
+        final Parameter.Key<Integer> radiusKey = Parameter.key("radius", Integer.class);
+        final Parameter.Key<Integer> centerXKey = Parameter.key("centerX", Integer.class);
+        final Parameter.Key<Integer> centerZKey = Parameter.key("centerZ", Integer.class);
+        final Command.Parameterized startCommand = Command.builder()
+                .permission("sponge.command.pregen.start")
+                .shortDescription(Component.text("Pre-generates all chunks within a radius, in chunks, around the spawn or the given chunk"))
+                .addParameter(Parameter.world().key(this.worldKey).build())
+                .addParameter(Parameter.integerNumber().key(radiusKey).build())
+                .addParameter(Parameter.integerNumber().key(centerXKey).optional().build())
+                .addParameter(Parameter.integerNumber().key(centerZKey).optional().build())
+                .executor(context -> {
+                    final ServerLevel level = (ServerLevel) context.requireOne(this.worldKey);
+                    final int radius = context.requireOne(radiusKey);
+                    if (radius < 0) {
+                        return CommandResult.error(Component.text("The radius cannot be negative", NamedTextColor.RED));
+                    }
+                    final ChunkPos spawn = new ChunkPos(level.getSharedSpawnPos());
+                    final int centerX = context.one(centerXKey).orElse(spawn.x);
+                    final int centerZ = context.one(centerZKey).orElse(spawn.z);
+                    final SpongeWorldManager worldManager = (SpongeWorldManager) Sponge.server().worldManager();
+                    if (worldManager.pregenerator(level).isPresent()) {
+                        return CommandResult.error(Component.text("World " + level.dimension().location() + " is already being pre-generated",
+                                NamedTextColor.RED));
+                    }
+                    final SpongeWorldPregenerator pregenerator = worldManager.startPregeneration(level, centerX, centerZ, radius);
+                    context.sendMessage(Identity.nil(), Component.text("Started pre-generating " + pregenerator.total() + " chunks around chunk "
+                            + centerX + ", " + centerZ + " in world " + level.dimension().location(), NamedTextColor.GREEN));
+                    return CommandResult.success();
+                })
+                .build();
+        final Command.Parameterized pauseCommand = Command.builder()
+                .permission("sponge.command.pregen.pause")
+                .shortDescription(Component.text("Pauses pre-generation of a world"))
+                .addParameter(Parameter.world().key(this.worldKey).build())
+                .executor(context -> this.pregenerator(context).map(pregenerator -> {
+                    pregenerator.pause();
+                    context.sendMessage(Identity.nil(), Component.text("Paused pre-generation", NamedTextColor.GREEN));
+                    return CommandResult.success();
+                }).orElseGet(() -> this.noPregeneration(context)))
+                .build();
+        final Command.Parameterized resumeCommand = Command.builder()
+                .permission("sponge.command.pregen.resume")
+                .shortDescription(Component.text("Resumes paused pre-generation of a world"))
+                .addParameter(Parameter.world().key(this.worldKey).build())
+                .executor(context -> this.pregenerator(context).map(pregenerator -> {
+                    pregenerator.resume();
+                    context.sendMessage(Identity.nil(), Component.text("Resumed pre-generation", NamedTextColor.GREEN));
+                    return CommandResult.success();
+                }).orElseGet(() -> this.noPregeneration(context)))
+                .build();
+        final Command.Parameterized cancelCommand = Command.builder()
+                .permission("sponge.command.pregen.cancel")
+                .shortDescription(Component.text("Cancels pre-generation of a world, discarding its progress"))
+                .addParameter(Parameter.world().key(this.worldKey).build())
+                .executor(context -> {
+                    final ServerLevel level = (ServerLevel) context.requireOne(this.worldKey);
+                    if (!((SpongeWorldManager) Sponge.server().worldManager()).cancelPregeneration(level)) {
+                        return this.noPregeneration(context);
+                    }
+                    context.sendMessage(Identity.nil(), Component.text("Cancelled pre-generation", NamedTextColor.GREEN));
+                    return CommandResult.success();
+                })
+                .build();
+        final Command.Parameterized statusCommand = Command.builder()
+                .permission("sponge.command.pregen.status")
+                .shortDescription(Component.text("Displays the progress of a world's pre-generation"))
+                .addParameter(Parameter.world().key(this.worldKey).build())
+                .executor(context -> this.pregenerator(context).map(pregenerator -> {
+                    context.sendMessage(Identity.nil(), this.getPregenerationInfo(pregenerator));
+                    return CommandResult.success();
+                }).orElseGet(() -> this.noPregeneration(context)))
+                .build();
+        return Command.builder()
+                .addChild(startCommand, "start")
+                .addChild(pauseCommand, "pause")
+                .addChild(resumeCommand, "resume")
+                .addChild(cancelCommand, "cancel")
+                .addChild(statusCommand, "status")
+                .permission("sponge.command.pregen")
+                .build();
+    }
+
+    private Optional<SpongeWorldPregenerator> pregenerator(final CommandContext context) {
+        return ((SpongeWorldManager) Sponge.server().worldManager()).pregenerator((ServerLevel) context.requireOne(this.worldKey));
+    }
+
+    private CommandResult noPregeneration(final CommandContext context) {
+        return CommandResult.error(Component.text("World " + context.requireOne(this.worldKey).key() + " is not being pre-generated",
+                NamedTextColor.RED));
+    }
+
     private @NonNull CommandResult heapSubcommandExecutor(final CommandContext context) {
         final File file = new File(new File(new File("."), "dumps"),
                 "heap-dump-" + DateTimeFormatter.ofPattern("yyyy-MM-dd_HH.mm.ss").format(LocalDateTime.now()) + "-server.hprof");
@@ -629,6 +729,7 @@ private TextColor tpsColor(final double tps) {
                         .color(NamedTextColor.RED)));
                 SpongeCommon.logger().error("Failed to reload configuration of world '{}'", worldId, error);
             } else {
+                SpongeCommon.server().execute(() -> EntityCollisionLimits.refresh((ServerLevel) target));
                 context.sendMessage(Identity.nil(), Component.text("Successfully reloaded configuration for world ", NamedTextColor.GREEN)
                     .append(Component.text(worldId.toString(), Style.style(TextDecoration.BOLD)))
                     .append(Component.text("!")));
@@ -658,6 +759,26 @@ protected Component getChunksInfo(final ServerWorld serverWorld) {
         );
     }
 
+    protected Component getPregenerationInfo(final SpongeWorldPregenerator pregenerator) {
+        return LinearComponents.linear(
+                this.key("World: "), Component.text(pregenerator.level().dimension().location().toString(), NamedTextColor.GREEN),
+                pregenerator.isPaused() ? Component.text(" (paused)", NamedTextColor.YELLOW) : Component.empty(),
+                Component.newline(),
+                this.key("Center: "), Component.text(pregenerator.centerX() + ", " + pregenerator.centerZ(), NamedTextColor.GRAY),
+                Component.newline(),
+                this.key("Radius: "), this.value(pregenerator.radius()),
+                Component.newline(),
+                this.key("Progress: "), Component.text(pregenerator.completed() + "/" + pregenerator.total() + " ("
+                        + SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(pregenerator.completed() * 100.0D / pregenerator.total()) + "%)",
+                        NamedTextColor.GRAY),
+                Component.newline(),
+                this.key("In flight: "), this.value(pregenerator.inFlight()),
+                Component.newline(),
+                this.key("Chunks/s: "), Component.text(SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(pregenerator.chunksPerSecond()),
+                        NamedTextColor.GRAY)
+        );
+    }
+
     protected Component key(final String text) {
         return Component.text(text, NamedTextColor.GOLD);
     }
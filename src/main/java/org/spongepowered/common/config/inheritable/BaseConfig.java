@@ -52,6 +52,9 @@ public abstract class BaseConfig implements Config {
     @Setting("block-entity-activation")
     public final BlockEntityActivationCategory blockEntityActivation = new BlockEntityActivationCategory();
 
+    @Setting("entity-tracker")
+    public final EntityTrackerCategory entityTracker = new EntityTrackerCategory();
+
     @Setting("movement-checks")
     public final MovementChecksCategory movementChecks = new MovementChecksCategory();
 
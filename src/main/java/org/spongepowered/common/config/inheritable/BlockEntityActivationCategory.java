@@ -50,6 +50,31 @@ public final class BlockEntityActivationCategory {
     @Comment("Per-mod overrides. Refer to the minecraft default mod for example.")
     public final Map<String, MobSubCategory> mods = new HashMap<>();
 
+    @Setting
+    @Comment("Slows down the most expensive block entity types while the server is behind, on top of their configured tick rates.")
+    public final AdaptiveSubCategory adaptive = new AdaptiveSubCategory();
+
+    @ConfigSerializable
+    public static final class AdaptiveSubCategory {
+
+        @Setting
+        @Comment("If 'true', tick rates of block entity types are raised and lowered again based on the server's tick time.")
+        public boolean enabled = false;
+
+        @Setting("target-tick-time")
+        @Comment("The average tick time, in milliseconds, above which the most expensive block entity type is slowed down \n"
+                 + "every second. Tick rates are lowered again once the tick time drops below 80% of this value.")
+        public int targetTickTime = 45;
+
+        @Setting("max-tick-rate")
+        @Comment("The highest tick rate a block entity type may be slowed down to.")
+        public int maxTickRate = 8;
+
+        @Setting("min-tick-cost")
+        @Comment("The average time, in microseconds, a block entity must take to tick before its type is slowed down.")
+        public int minTickCost = 20;
+    }
+
     @ConfigSerializable
     public static final class MobSubCategory {
 
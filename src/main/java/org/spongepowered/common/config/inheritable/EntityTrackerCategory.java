@@ -0,0 +1,55 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.inheritable;
+
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.Setting;
+
+@ConfigSerializable
+public final class EntityTrackerCategory {
+
+    @Setting
+    @Comment("If 'true', movement and metadata updates of tracked entities are sent less \n"
+        + "often to players that are far away from the entity.")
+    public boolean enabled = false;
+
+    @Setting("near-range")
+    @Comment("Players within this many blocks of an entity receive every update.")
+    public int nearRange = 24;
+
+    @Setting("medium-range")
+    @Comment("Players within this many blocks of an entity, but outside of the near range, \n"
+        + "receive updates every 'medium-interval' ticks.")
+    public int mediumRange = 48;
+
+    @Setting("medium-interval")
+    @Comment("The tick interval of updates sent to players in the medium range.")
+    public int mediumInterval = 2;
+
+    @Setting("far-interval")
+    @Comment("The tick interval of updates sent to players outside of the medium range.")
+    public int farInterval = 4;
+}
@@ -0,0 +1,144 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity.collision;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.core.Registry;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.bridge.entitycollision.CollisionCapabilityBridge;
+import org.spongepowered.common.bridge.entitycollision.CollisionLimitsHolderBridge;
+import org.spongepowered.common.bridge.world.level.storage.PrimaryLevelDataBridge;
+import org.spongepowered.common.config.inheritable.EntityCollisionCategory;
+import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
+import org.spongepowered.common.config.inheritable.WorldConfig;
+
+/**
+ * The resolved {@link EntityCollisionCategory} limits of a single world.
+ *
+ * <p>Resolving a limit walks the world and global configuration, which is
+ * far too expensive to do for every constructed entity. Limits are resolved
+ * once per entity type and kept in a primitive map until the world's
+ * configuration is reloaded, see {@link #refresh(ServerLevel)}.</p>
+ */
+public final class EntityCollisionLimits {
+
+    private static final int UNRESOLVED = Integer.MIN_VALUE;
+
+    private final Level level;
+    private final Object2IntMap<ResourceKey> entityLimits = new Object2IntOpenHashMap<>();
+
+    public EntityCollisionLimits(final Level level) {
+        this.level = level;
+        this.entityLimits.defaultReturnValue(EntityCollisionLimits.UNRESOLVED);
+    }
+
+    /**
+     * Gets the maximum amount of collisions for entities of the given type,
+     * a negative value meaning there is no limit.
+     *
+     * @param key The entity type key, or the item type key for items
+     * @return The maximum amount of collisions
+     */
+    public int entityLimit(final ResourceKey key) {
+        int limit = this.entityLimits.getInt(key);
+        if (limit == EntityCollisionLimits.UNRESOLVED) {
+            limit = this.resolveEntityLimit(key);
+            this.entityLimits.put(key, limit);
+        }
+        return limit;
+    }
+
+    public void clear() {
+        this.entityLimits.clear();
+    }
+
+    /**
+     * Forgets the resolved limits of a world after its configuration was
+     * reloaded, and has its entities and block types resolve their limit
+     * again on their next collision check. Does nothing if the entity
+     * collision module is not enabled.
+     *
+     * @param level The world
+     */
+    public static void refresh(final ServerLevel level) {
+        if (!(level instanceof CollisionLimitsHolderBridge)) {
+            return;
+        }
+        ((CollisionLimitsHolderBridge) level).collision$limits().clear();
+        for (final Entity entity : level.getAllEntities()) {
+            ((CollisionCapabilityBridge) entity).collision$requiresCollisionsCacheRefresh(true);
+        }
+        for (final Block block : Registry.BLOCK) {
+            ((CollisionCapabilityBridge) block).collision$requiresCollisionsCacheRefresh(true);
+        }
+    }
+
+    private int resolveEntityLimit(final ResourceKey key) {
+        final InheritableConfigHandle<WorldConfig> worldConfigAdapter = ((PrimaryLevelDataBridge) this.level.getLevelData()).bridge$configAdapter();
+        final EntityCollisionCategory worldCollCat = worldConfigAdapter.get().entityCollision;
+        final EntityCollisionCategory.ModSubCategory worldCollMod =
+                worldConfigAdapter.getOrCreateValue(s -> s.entityCollision.mods.get(key.namespace()),
+                c -> {
+                    // TODO: save after populating?
+                    final EntityCollisionCategory.ModSubCategory globalCollision = new EntityCollisionCategory.ModSubCategory(key.namespace());
+                    c.entityCollision.mods.put(key.namespace(), globalCollision);
+                    globalCollision.entities.put(key.namespace(), worldCollCat.maxEntitiesWithinAABB);
+                }, worldCollCat.autoPopulate);
+
+        int limit = worldCollCat.maxEntitiesWithinAABB;
+        boolean requiresSave = false;
+        if (worldCollMod != null) {
+            if (!worldCollMod.enabled) {
+                return -1;
+            }
+            // check mod overrides
+            final Integer modCollisionMax = worldCollMod.entityDefault;
+            if (modCollisionMax != null) {
+                limit = modCollisionMax;
+            }
+
+            // entity overrides
+            final Integer entityMaxCollision = worldCollMod.entities.get(key.value());
+            if (entityMaxCollision == null && worldCollCat.autoPopulate) {
+                // TODO(zml): Populate better
+                requiresSave = true;
+            } else if (entityMaxCollision != null) {
+                limit = entityMaxCollision;
+            }
+        }
+
+        // don't bother saving for negative values
+        if (requiresSave && limit > 0) {
+            SpongeConfigs.getCommon().save();
+        }
+        return limit;
+    }
+}
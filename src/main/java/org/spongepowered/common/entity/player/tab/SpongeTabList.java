@@ -47,23 +47,57 @@
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * The tab list of a single player.
+ *
+ * <p>Changes made through the API are applied to the local state straight
+ * away, but the packets describing them are journaled and coalesced until
+ * {@link #flush()} is called once per tick by the player's connection. This
+ * usually results in one {@link ClientboundPlayerInfoPacket} per action and
+ * a single {@link ClientboundTabListPacket}, which is skipped entirely if
+ * the header and footer match what the client last received.</p>
+ */
 public final class SpongeTabList implements TabList {
 
     private static final net.minecraft.network.chat.Component EMPTY_COMPONENT = new TextComponent("");
+    private static final AtomicLong PACKETS_SAVED = new AtomicLong();
+
     private final net.minecraft.server.level.ServerPlayer player;
     private @Nullable Component header;
     private @Nullable Component footer;
     private final Map<UUID, TabListEntry> entries = Maps.newHashMap();
 
+    // The change journal, flushed once per tick
+    private final Map<ClientboundPlayerInfoPacket.Action, Map<UUID, TabListEntry>> pending = new EnumMap<>(ClientboundPlayerInfoPacket.Action.class);
+    private int pendingChanges;
+    private boolean headerFooterDirty;
+    private boolean headerFooterSent;
+    private @Nullable Component sentHeader;
+    private @Nullable Component sentFooter;
+    private boolean flushing;
+
     public SpongeTabList(final net.minecraft.server.level.ServerPlayer player) {
         this.player = player;
     }
 
+    /**
+     * Gets the number of packets that were not sent to clients because
+     * changes were coalesced or found to be redundant, across all tab lists.
+     *
+     * @return The number of packets saved
+     */
+    public static long packetsSaved() {
+        return SpongeTabList.PACKETS_SAVED.get();
+    }
+
     @Override
     public ServerPlayer player() {
         return (ServerPlayer) this.player;
@@ -108,13 +142,11 @@ public TabList setHeaderAndFooter(final @Nullable Component header, final @Nulla
         return this;
     }
 
-    @SuppressWarnings("ConstantConditions")
     private void refreshClientHeaderFooter() {
-        final ClientboundTabListPacket packet = new ClientboundTabListPacket();
-        // MC-98180 - Sending null as header or footer will cause an exception on the client
-        ((ClientboundTabListPacketAccessor) packet).accessor$header(this.header == null ? SpongeTabList.EMPTY_COMPONENT : SpongeAdventure.asVanilla(this.header));
-        ((ClientboundTabListPacketAccessor) packet).accessor$footer(this.footer == null ? SpongeTabList.EMPTY_COMPONENT : SpongeAdventure.asVanilla(this.footer));
-        this.player.connection.send(packet);
+        if (this.headerFooterDirty) {
+            SpongeTabList.PACKETS_SAVED.incrementAndGet();
+        }
+        this.headerFooterDirty = true;
     }
 
     @Override
@@ -133,7 +165,7 @@ public TabList addEntry(final TabListEntry entry) throws IllegalArgumentExceptio
         Objects.requireNonNull(entry, "builder");
         checkState(entry.list().equals(this), "the provided tab list entry was not created for this tab list");
 
-        this.addEntry(entry, true);
+        this.addEntry(entry, true, true);
 
         return this;
     }
@@ -142,17 +174,18 @@ private void addEntry(final ClientboundPlayerInfoPacket.PlayerUpdate entry) {
         final GameProfile profile = entry.getProfile();
         if (!this.entries.containsKey(profile.getId())) {
             final net.minecraft.network.chat.Component displayName = entry.getDisplayName();
+            // The packet carrying this entry is already on its way to the client
             this.addEntry(new SpongeTabListEntry(
                     this,
                     SpongeGameProfile.of(profile),
                     displayName == null ? null : SpongeAdventure.asAdventure(displayName),
                     entry.getLatency(),
                     (GameMode) (Object) entry.getGameMode()
-            ), false);
+            ), false, false);
         }
     }
 
-    private void addEntry(final TabListEntry entry, final boolean exceptionOnDuplicate) {
+    private void addEntry(final TabListEntry entry, final boolean exceptionOnDuplicate, final boolean send) {
         final UUID uniqueId = entry.profile().uniqueId();
 
         @Nullable final TabListEntry prev = this.entries.putIfAbsent(uniqueId, entry);
@@ -160,8 +193,8 @@ private void addEntry(final TabListEntry entry, final boolean exceptionOnDuplica
             throw new IllegalArgumentException("cannot add duplicate entry");
         }
 
-        if (prev == null) {
-            this.sendUpdate(entry, ClientboundPlayerInfoPacket.Action.ADD_PLAYER);
+        if (prev == null && send) {
+            this.queueUpdate(entry, ClientboundPlayerInfoPacket.Action.ADD_PLAYER);
         }
     }
 
@@ -169,28 +202,124 @@ private void addEntry(final TabListEntry entry, final boolean exceptionOnDuplica
     public Optional<TabListEntry> removeEntry(final UUID uniqueId) {
         Objects.requireNonNull(uniqueId, "unique id");
 
+        return this.removeEntry(uniqueId, true);
+    }
+
+    private Optional<TabListEntry> removeEntry(final UUID uniqueId, final boolean send) {
         final TabListEntry entry = this.entries.remove(uniqueId);
         if (entry != null) {
-            this.sendUpdate(entry, ClientboundPlayerInfoPacket.Action.REMOVE_PLAYER);
+            if (send) {
+                this.queueUpdate(entry, ClientboundPlayerInfoPacket.Action.REMOVE_PLAYER);
+            }
             return Optional.of(entry);
         }
         return Optional.empty();
     }
 
     /**
-     * Send an entry update.
+     * Journals an entry update, to be sent with the next {@link #flush()}.
+     *
+     * <p>Updates are coalesced per entry and action: field updates of an
+     * entry pending addition are carried by the addition itself, and repeated
+     * updates of the same field only send the latest value. An entry added
+     * and removed again is still sent, since the client needs the profile of
+     * a player spawned in between, for example by fake player plugins.</p>
      *
      * @param entry The entry to update
      * @param action The update action to perform
      */
+    void queueUpdate(final TabListEntry entry, final ClientboundPlayerInfoPacket.Action action) {
+        final UUID uniqueId = entry.profile().uniqueId();
+        if (action == ClientboundPlayerInfoPacket.Action.REMOVE_PLAYER && this.isPending(ClientboundPlayerInfoPacket.Action.ADD_PLAYER, uniqueId)) {
+            // Removals are flushed before additions, send the addition first
+            this.flush();
+        }
+        this.pendingChanges++;
+        if (action == ClientboundPlayerInfoPacket.Action.REMOVE_PLAYER) {
+            for (final Map.Entry<ClientboundPlayerInfoPacket.Action, Map<UUID, TabListEntry>> updates : this.pending.entrySet()) {
+                if (updates.getKey() != ClientboundPlayerInfoPacket.Action.REMOVE_PLAYER) {
+                    updates.getValue().remove(uniqueId);
+                }
+            }
+        } else if (action != ClientboundPlayerInfoPacket.Action.ADD_PLAYER && this.isPending(ClientboundPlayerInfoPacket.Action.ADD_PLAYER, uniqueId)) {
+            // The pending addition will carry the latest values
+            return;
+        }
+        this.pending.computeIfAbsent(action, k -> new LinkedHashMap<>()).put(uniqueId, entry);
+    }
+
+    private boolean isPending(final ClientboundPlayerInfoPacket.Action action, final UUID uniqueId) {
+        final Map<UUID, TabListEntry> updates = this.pending.get(action);
+        return updates != null && updates.containsKey(uniqueId);
+    }
+
+    /**
+     * Sends all journaled changes to the client, at most one packet
+     * per action.
+     *
+     * <p>This is called once per tick by the player's connection, and
+     * before any packet that updates the tab list outside of this class or
+     * spawns a player, so the client observes changes in order.</p>
+     */
+    public void flush() {
+        if (this.flushing) {
+            return;
+        }
+        this.flushing = true;
+        try {
+            int sent = 0;
+            // Removals go first, an entry may have been removed and added again
+            sent += this.flush(ClientboundPlayerInfoPacket.Action.REMOVE_PLAYER);
+            sent += this.flush(ClientboundPlayerInfoPacket.Action.ADD_PLAYER);
+            sent += this.flush(ClientboundPlayerInfoPacket.Action.UPDATE_DISPLAY_NAME);
+            sent += this.flush(ClientboundPlayerInfoPacket.Action.UPDATE_LATENCY);
+            sent += this.flush(ClientboundPlayerInfoPacket.Action.UPDATE_GAME_MODE);
+            if (this.pendingChanges > sent) {
+                SpongeTabList.PACKETS_SAVED.addAndGet(this.pendingChanges - sent);
+            }
+            this.pendingChanges = 0;
+            this.flushHeaderFooter();
+        } finally {
+            this.flushing = false;
+        }
+    }
+
     @SuppressWarnings("ConstantConditions")
-    void sendUpdate(final TabListEntry entry, final ClientboundPlayerInfoPacket.Action action) {
+    private int flush(final ClientboundPlayerInfoPacket.Action action) {
+        final Map<UUID, TabListEntry> updates = this.pending.get(action);
+        if (updates == null || updates.isEmpty()) {
+            return 0;
+        }
         final ClientboundPlayerInfoPacket packet = new ClientboundPlayerInfoPacket();
         ((ClientboundPlayerInfoPacketAccessor) packet).accessor$action(action);
-        final ClientboundPlayerInfoPacket.PlayerUpdate data = packet.new PlayerUpdate(SpongeGameProfile.toMcProfile(entry.profile()),
-            entry.latency(), (GameType) (Object) entry.gameMode(),
-            entry.displayName().isPresent() ? SpongeAdventure.asVanilla(entry.displayName().get()) : null);
-        ((ClientboundPlayerInfoPacketAccessor) packet).accessor$entries().add(data);
+        final Collection<ClientboundPlayerInfoPacket.PlayerUpdate> data = ((ClientboundPlayerInfoPacketAccessor) packet).accessor$entries();
+        for (final TabListEntry entry : updates.values()) {
+            data.add(packet.new PlayerUpdate(SpongeGameProfile.toMcProfile(entry.profile()),
+                entry.latency(), (GameType) (Object) entry.gameMode(),
+                entry.displayName().isPresent() ? SpongeAdventure.asVanilla(entry.displayName().get()) : null));
+        }
+        updates.clear();
+        this.player.connection.send(packet);
+        return 1;
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    private void flushHeaderFooter() {
+        if (!this.headerFooterDirty) {
+            return;
+        }
+        this.headerFooterDirty = false;
+        if (this.headerFooterSent && Objects.equals(this.header, this.sentHeader) && Objects.equals(this.footer, this.sentFooter)) {
+            SpongeTabList.PACKETS_SAVED.incrementAndGet();
+            return;
+        }
+        this.headerFooterSent = true;
+        this.sentHeader = this.header;
+        this.sentFooter = this.footer;
+        final ClientboundTabListPacket packet = new ClientboundTabListPacket();
+        // MC-98180 - Sending null as header or footer will cause an exception on the client
+        ((ClientboundTabListPacketAccessor) packet).accessor$header(this.header == null ? SpongeTabList.EMPTY_COMPONENT : SpongeAdventure.asVanilla(this.header));
+        ((ClientboundTabListPacketAccessor) packet).accessor$footer(this.footer == null ? SpongeTabList.EMPTY_COMPONENT : SpongeAdventure.asVanilla(this.footer));
         this.player.connection.send(packet);
     }
 
@@ -204,13 +333,19 @@ void sendUpdate(final TabListEntry entry, final ClientboundPlayerInfoPacket.Acti
      */
     @SuppressWarnings("ConstantConditions")
     public void updateEntriesOnSend(final ClientboundPlayerInfoPacket packet) {
+        if (this.flushing) {
+            // Our own journal, the state is already up to date
+            return;
+        }
+        // Anything we have journaled happened before this packet
+        this.flush();
         for (final ClientboundPlayerInfoPacket.PlayerUpdate update : ((ClientboundPlayerInfoPacketAccessor) packet).accessor$entries()) {
             final ClientboundPlayerInfoPacket.Action action = ((ClientboundPlayerInfoPacketAccessor) packet).accessor$action();
             if (action == ClientboundPlayerInfoPacket.Action.ADD_PLAYER) {
                 // If an entry with the same id exists nothing will be done
                 this.addEntry(update);
             } else if (action == ClientboundPlayerInfoPacket.Action.REMOVE_PLAYER) {
-                this.removeEntry(update.getProfile().getId());
+                this.removeEntry(update.getProfile().getId(), false);
             } else {
                 this.entry(update.getProfile().getId()).ifPresent(entry -> {
                     if (action == ClientboundPlayerInfoPacket.Action.UPDATE_DISPLAY_NAME) {
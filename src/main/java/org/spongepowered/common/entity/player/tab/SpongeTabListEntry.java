@@ -115,7 +115,7 @@ private void sendUpdate(ClientboundPlayerInfoPacket.Action action) {
             return;
         }
 
-        this.list.sendUpdate(this, action);
+        this.list.queueUpdate(this, action);
     }
 
     /**
@@ -42,6 +42,7 @@
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Array;
 import java.lang.reflect.Method;
@@ -61,6 +62,23 @@ public class ListenerClassVisitor extends ClassVisitor {
 
     public static final int ASM_VERSION = Opcodes.ASM9;
 
+    // Registering a listener scans its class and all of its superclasses, and the same
+    // listener class is often registered many times. Reusing the discovered methods also
+    // lets the listener and filter factories reuse the classes they generated for them.
+    // The discovered methods reference their declaring class, so they are attached to the
+    // class itself through a ClassValue rather than kept in a map keyed by it, and are
+    // collected along with the class.
+    private static final ClassValue<List<DiscoveredMethod>> DISCOVERED_METHODS = new ClassValue<List<DiscoveredMethod>>() {
+        @Override
+        protected List<DiscoveredMethod> computeValue(final Class<?> type) {
+            try {
+                return ListenerClassVisitor.discoverEventListenerMethods(type);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    };
+
     final List<DiscoveredMethod> foundListenerMethods = new LinkedList<>();
     final Class<?> declaringClass;
 
@@ -72,6 +90,14 @@ private ListenerClassVisitor(final Class<?> handle) {
     static List<DiscoveredMethod> getEventListenerMethods(final Class<?> handle) throws
         IOException,
         NoSuchMethodException {
+        try {
+            return ListenerClassVisitor.DISCOVERED_METHODS.get(handle);
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static List<DiscoveredMethod> discoverEventListenerMethods(final Class<?> handle) throws IOException {
         final @Nullable InputStream classStream = handle.getClassLoader().getResourceAsStream(
             handle.getName().replace(".", "/") + ".class");
         if (classStream == null) {
@@ -57,8 +57,10 @@
 import org.spongepowered.api.world.LocatableBlock;
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.block.SpongeBlockSnapshot;
+import org.spongepowered.common.block.entity.BlockEntityActivation;
 import org.spongepowered.common.bridge.CreatorTrackedBridge;
 import org.spongepowered.common.bridge.TrackableBridge;
+import org.spongepowered.common.bridge.activation.ActivationCapabilityBridge;
 import org.spongepowered.common.bridge.world.TrackedWorldBridge;
 import org.spongepowered.common.bridge.world.inventory.ViewableInventoryBridge;
 import org.spongepowered.common.bridge.world.level.TrackableBlockEventDataBridge;
@@ -184,6 +186,12 @@ public static void tickTileEntity(final TrackedWorldBridge mixinWorldServer, fin
         if (chunk == null) {
             ((ActiveChunkReferantBridge) tile).bridge$setActiveChunk((TrackedLevelChunkBridge) tileEntity.getLevel().getChunkAt(tileEntity.getBlockPos()));
         }
+        // Only block entities with the block entity activation module applied are activation capable
+        final boolean activationCapable = tile instanceof ActivationCapabilityBridge;
+        if (activationCapable && !BlockEntityActivation.checkIfActive(tileEntity)) {
+            return;
+        }
+        final long tickStart = activationCapable ? System.nanoTime() : 0L;
 
         final TileEntityTickContext context = TickPhase.Tick.TILE_ENTITY.createPhaseContext(PhaseTracker.SERVER).source(mixinTileEntity);
         try (final PhaseContext<?> phaseContext = context) {
@@ -214,6 +222,9 @@ public static void tickTileEntity(final TrackedWorldBridge mixinWorldServer, fin
         } catch (final Exception e) {
             PhasePrinter.printExceptionFromPhase(PhaseTracker.getInstance().stack, e, context);
         }
+        if (activationCapable) {
+            BlockEntityActivation.recordTick(tileEntity, System.nanoTime() - tickStart);
+        }
         // We delay clearing active chunk if TE is invalidated during tick so we must remove it after
         if (tileEntity.isRemoved()) {
             ((ActiveChunkReferantBridge) tileEntity).bridge$setActiveChunk(null);
@@ -204,8 +204,17 @@ default void logNeighborNotification(
         this.logTransaction(notificationTransaction);
     }
 
+    /**
+     * Logs the spawn of an entity that passed its pre spawn event.
+     *
+     * @param current The current phase context
+     * @param serverWorld The world the entity is spawned in
+     * @param entityIn The entity being spawned
+     * @return False if the entity was absorbed by an already captured entity
+     *     and must not be added to the world
+     */
     @SuppressWarnings("ConstantConditions")
-    default void logEntitySpawn(
+    default boolean logEntitySpawn(
         final PhaseContext<@NonNull ?> current, final TrackedWorldBridge serverWorld,
         final Entity entityIn
     ) {
@@ -214,6 +223,7 @@ default void logEntitySpawn(
         final Supplier<SpawnType> contextualType = current.getSpawnTypeForTransaction(entityIn);
         final SpawnEntityTransaction transaction = new SpawnEntityTransaction(worldSupplier, entityIn, contextualType);
         this.logTransaction(transaction);
+        return true;
     }
 
     default boolean logTileReplacement(
@@ -26,6 +26,14 @@
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMultimap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.item.ItemStack;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -34,14 +42,19 @@
 import org.spongepowered.api.event.CauseStackManager;
 import org.spongepowered.api.event.Event;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.bridge.world.TrackedWorldBridge;
+import org.spongepowered.common.config.SpongeGameConfigs;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.context.ICaptureSupplier;
 import org.spongepowered.common.event.tracking.context.transaction.effect.PrepareBlockDrops;
 import org.spongepowered.common.event.tracking.context.transaction.type.TransactionType;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Spliterator;
@@ -63,6 +76,9 @@ public final class TransactionalCaptureSupplier implements ICaptureSupplier, Tra
     private @Nullable GameTransaction<@NonNull ?> head;
     private @Nullable ResultingTransactionBySideEffect effect;
     private final PhaseContext<@NonNull ?> context;
+    // Captured block drop item entities by merge cell, only tracked while drops pre-merging is in use
+    private @Nullable Long2ObjectMap<List<ItemEntity>> capturedDrops;
+    private double dropCellSize;
 
     public TransactionalCaptureSupplier(final PhaseContext<@NonNull ?> context) {
         this.context = context;
@@ -147,6 +163,76 @@ public void logTransaction(final StatefulTransaction transaction) {
         }
     }
 
+    @Override
+    public boolean logEntitySpawn(
+        final PhaseContext<@NonNull ?> current, final TrackedWorldBridge serverWorld,
+        final Entity entityIn
+    ) {
+        final boolean blockDrop = entityIn instanceof ItemEntity && this.isSpawningBlockDrops()
+            && SpongeConfigs.getCommon().get().optimizations.dropsPreMerge;
+        if (blockDrop && this.preMergeBlockDrop((ItemEntity) entityIn, (ServerLevel) serverWorld)) {
+            return false;
+        }
+        TransactionSink.super.logEntitySpawn(current, serverWorld, entityIn);
+        if (blockDrop && this.capturedDrops != null) {
+            this.capturedDrops.computeIfAbsent(this.dropCell(entityIn), k -> new ArrayList<>()).add((ItemEntity) entityIn);
+        }
+        return true;
+    }
+
+    /**
+     * Attempts to merge a block drop that passed its pre spawn event into an
+     * identical drop already captured by this context within the same merge
+     * cell, so that the drop never becomes an entity of its own. The captured
+     * entity keeps its place in the pending spawn transactions, so the drop
+     * events are thrown with the merged stack. Merge cells are sized by the
+     * item merge radius of the world.
+     *
+     * @param item The item entity about to be spawned
+     * @param level The world the item is spawned in
+     * @return True if the item was merged and should not be spawned
+     */
+    private boolean preMergeBlockDrop(final ItemEntity item, final ServerLevel level) {
+        final double cellSize = Math.max(0, SpongeGameConfigs.getForWorld(level).get().world.itemMergeRadius);
+        if (cellSize == 0) {
+            this.capturedDrops = null;
+            return false;
+        }
+        if (this.capturedDrops == null || this.dropCellSize != cellSize) {
+            this.capturedDrops = new Long2ObjectOpenHashMap<>();
+            this.dropCellSize = cellSize;
+            return false;
+        }
+        final ItemStack stack = item.getItem();
+        if (stack.isEmpty() || stack.getCount() >= stack.getMaxStackSize()) {
+            return false;
+        }
+        final @Nullable List<ItemEntity> candidates = this.capturedDrops.get(this.dropCell(item));
+        if (candidates == null) {
+            return false;
+        }
+        for (final ItemEntity candidate : candidates) {
+            final ItemStack existing = candidate.getItem();
+            if (!candidate.removed && ItemEntity.areMergable(existing, stack)) {
+                candidate.setItem(ItemEntity.merge(existing, stack, existing.getMaxStackSize()));
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isSpawningBlockDrops() {
+        return this.effect != null && this.effect.effect.spawnsBlockDrops();
+    }
+
+    private long dropCell(final Entity entity) {
+        return BlockPos.asLong(
+            Mth.floor(entity.getX() / this.dropCellSize),
+            Mth.floor(entity.getY() / this.dropCellSize),
+            Mth.floor(entity.getZ() / this.dropCellSize)
+        );
+    }
+
     public void completeBlockDrops(final @Nullable EffectTransactor context) {
         if (this.effect != null) {
             if (this.effect.effect == PrepareBlockDrops.getInstance()) {
@@ -161,10 +247,13 @@ public void clear() {
         this.head = null;
         this.tail = null;
         this.effect = null;
+        this.capturedDrops = null;
     }
 
     @SuppressWarnings("unchecked")
     public boolean processTransactions(final PhaseContext<@NonNull ?> context) {
+        // Captured drops are about to be handed out through events, stop merging into them
+        this.capturedDrops = null;
         if (this.head == null) {
             return false;
         }
@@ -355,6 +444,7 @@ public void reset() {
         if (this.effect != null) {
             this.effect = null;
         }
+        this.capturedDrops = null;
     }
 
     @Override
@@ -50,4 +50,9 @@ public EffectResult processSideEffect(final BlockPipeline pipeline, final Pipeli
         return EffectResult.NULL_PASS;
     }
 
+    @Override
+    public boolean spawnsBlockDrops() {
+        return true;
+    }
+
 }
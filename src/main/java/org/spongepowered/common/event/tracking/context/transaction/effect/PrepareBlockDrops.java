@@ -47,4 +47,9 @@ public EffectResult processSideEffect(final BlockPipeline pipeline, final Pipeli
         return EffectResult.NULL_PASS;
     }
 
+    @Override
+    public boolean spawnsBlockDrops() {
+        return true;
+    }
+
 }
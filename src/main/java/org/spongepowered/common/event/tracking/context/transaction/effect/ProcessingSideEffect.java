@@ -36,4 +36,14 @@ EffectResult processSideEffect(BlockPipeline pipeline, PipelineCursor oldState,
         int limit
     );
 
+    /**
+     * Gets whether item entities spawned while this effect is processed are
+     * drops of the block being changed.
+     *
+     * @return True if this effect spawns block drops
+     */
+    default boolean spawnsBlockDrops() {
+        return false;
+    }
+
 }
@@ -62,4 +62,9 @@ public EffectResult processSideEffect(
 
         return EffectResult.NULL_PASS;
     }
+
+    @Override
+    public boolean spawnsBlockDrops() {
+        return true;
+    }
 }
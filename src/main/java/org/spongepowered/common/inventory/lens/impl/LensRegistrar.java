@@ -25,9 +25,12 @@
 package org.spongepowered.common.inventory.lens.impl;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.item.inventory.Inventory;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.bridge.world.inventory.InventoryBridge;
 import org.spongepowered.common.inventory.lens.Lens;
 import org.spongepowered.common.inventory.lens.impl.comp.CraftingGridInventoryLens;
 import org.spongepowered.common.inventory.lens.impl.comp.CraftingInventoryLens;
@@ -45,11 +48,14 @@
 import org.spongepowered.common.inventory.util.ContainerUtil;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
+import net.minecraft.core.Registry;
 import net.minecraft.world.CompoundContainer;
 import net.minecraft.world.entity.npc.AbstractVillager;
 import net.minecraft.world.entity.npc.Villager;
@@ -64,6 +70,8 @@
 import net.minecraft.world.inventory.ResultContainer;
 import net.minecraft.world.level.block.entity.AbstractFurnaceBlockEntity;
 import net.minecraft.world.level.block.entity.BarrelBlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.entity.BlastFurnaceBlockEntity;
 import net.minecraft.world.level.block.entity.BrewingStandBlockEntity;
 import net.minecraft.world.level.block.entity.ChestBlockEntity;
@@ -81,9 +89,14 @@
 public class LensRegistrar {
 
     // Class of Inventory -> Size -> Lens
-    private static Map<Class<?>, Int2ObjectMap<Lens>> lenses = new HashMap<>();
+    // Copy-on-write: published maps are never modified, so reads need no locking
+    private static volatile Map<Class<?>, Int2ObjectMap<Lens>> lenses = Collections.emptyMap();
 
-    private static Map<Class<?>, LensFactory> lensFactories = new HashMap<>();
+    private static final Map<Class<?>, LensFactory> lensFactories = new ConcurrentHashMap<>();
+
+    private static int generatedLenses;
+    private static long generationNanos;
+    private static int generationDepth;
 
 
     static {
@@ -152,11 +165,86 @@ public static LensFactory restricted(LensFactory original, Predicate<Integer> si
     }
 
     public static Lens getLens(Object inventory, SlotLensProvider slotLensProvider, int size) {
-        return LensRegistrar.getLenses(inventory.getClass()).computeIfAbsent(size, k -> LensRegistrar.generateLens(inventory, size, slotLensProvider));
+        final Int2ObjectMap<Lens> sizes = LensRegistrar.lenses.get(inventory.getClass());
+        if (sizes != null) {
+            final Lens lens = sizes.get(size);
+            if (lens != null) {
+                return lens;
+            }
+        }
+        return LensRegistrar.generateAndCache(inventory, slotLensProvider, size);
+    }
+
+    private static synchronized Lens generateAndCache(Object inventory, SlotLensProvider slotLensProvider, int size) {
+        final Class<?> inventoryClass = inventory.getClass();
+        Int2ObjectMap<Lens> sizes = LensRegistrar.lenses.get(inventoryClass);
+        if (sizes != null && sizes.containsKey(size)) {
+            return sizes.get(size);
+        }
+
+        // Generating a lens may generate nested lenses, only the outermost generation is timed
+        final boolean outermost = LensRegistrar.generationDepth++ == 0;
+        final long start = outermost ? System.nanoTime() : 0L;
+        final Lens lens;
+        try {
+            lens = LensRegistrar.generateLens(inventory, size, slotLensProvider);
+        } finally {
+            LensRegistrar.generationDepth--;
+            if (outermost) {
+                LensRegistrar.generationNanos += System.nanoTime() - start;
+            }
+        }
+        LensRegistrar.generatedLenses++;
+
+        // Generating may have cached nested lenses, so copy the latest snapshot
+        final Map<Class<?>, Int2ObjectMap<Lens>> lenses = new HashMap<>(LensRegistrar.lenses);
+        sizes = lenses.get(inventoryClass);
+        final Int2ObjectMap<Lens> newSizes = sizes == null ? new Int2ObjectOpenHashMap<>() : new Int2ObjectOpenHashMap<>(sizes);
+        newSizes.put(size, lens);
+        lenses.put(inventoryClass, Int2ObjectMaps.unmodifiable(newSizes));
+        LensRegistrar.lenses = Collections.unmodifiableMap(lenses);
+        return lens;
+    }
+
+    /**
+     * Generates the lenses of every registered block entity container ahead
+     * of time, so opening one for the first time does not have to.
+     *
+     * <p>Menus are not included, their lenses depend on the slots of the
+     * opening player.</p>
+     */
+    public static void prewarm() {
+        final long start = System.nanoTime();
+        final int cached = LensRegistrar.cachedLenses();
+        for (final BlockEntityType<?> type : Registry.BLOCK_ENTITY_TYPE) {
+            try {
+                final BlockEntity blockEntity = type.create();
+                if (blockEntity instanceof InventoryBridge) {
+                    ((InventoryBridge) blockEntity).bridge$getAdapter().inventoryAdapter$getRootLens();
+                }
+            } catch (final Exception e) {
+                SpongeCommon.logger().debug("Could not prewarm the lens of block entity '{}'", Registry.BLOCK_ENTITY_TYPE.getKey(type), e);
+            }
+        }
+        SpongeCommon.logger().debug("Prewarmed {} inventory lenses in {}ms, {} lenses cached in total ({}ms spent generating)",
+                LensRegistrar.cachedLenses() - cached, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                LensRegistrar.cachedLenses(), TimeUnit.NANOSECONDS.toMillis(LensRegistrar.generationNanos()));
+    }
+
+    public static int cachedLenses() {
+        int count = 0;
+        for (final Int2ObjectMap<Lens> sizes : LensRegistrar.lenses.values()) {
+            count += sizes.size();
+        }
+        return count;
+    }
+
+    public static synchronized int generatedLenses() {
+        return LensRegistrar.generatedLenses;
     }
 
-    private static Int2ObjectMap<Lens> getLenses(Class<?> inventory) {
-        return LensRegistrar.lenses.computeIfAbsent(inventory, k -> new Int2ObjectOpenHashMap<>());
+    public static synchronized long generationNanos() {
+        return LensRegistrar.generationNanos;
     }
 
     private interface LensFactory {
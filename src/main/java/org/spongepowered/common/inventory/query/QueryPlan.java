@@ -0,0 +1,122 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.inventory.query;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.inventory.lens.Lens;
+import org.spongepowered.common.inventory.lens.impl.DelegatingLens;
+import org.spongepowered.common.inventory.lens.impl.QueryLens;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * The flattened depth-first traversal of a lens tree, in the exact order a
+ * {@link SpongeDepthQuery} visits it, with the slot offset of every lens
+ * already resolved.
+ *
+ * <p>Lens trees are shared between all inventories of the same shape, so a
+ * plan is compiled once per root lens and reused by every query executed
+ * against it. Queries that only look at the lens tree additionally keep
+ * their matches in the plan, for a bounded number of such queries.</p>
+ *
+ * <p>Plans never reference their root lens, so that a cached plan does not
+ * keep its own weak key alive. Direct children of the root are recorded
+ * with a null parent instead.</p>
+ */
+final class QueryPlan {
+
+    private static final int MAX_STRUCTURAL_MATCHES = 64;
+
+    private static final LoadingCache<Lens, QueryPlan> PLANS = Caffeine.newBuilder()
+        .weakKeys()
+        .build(QueryPlan::new);
+
+    static QueryPlan of(final Lens root) {
+        // Query results get a new root lens every time, caching their plans would only churn the cache
+        if (root instanceof QueryLens || root instanceof DelegatingLens) {
+            return new QueryPlan(root);
+        }
+        return QueryPlan.PLANS.get(root);
+    }
+
+    final Lens[] lenses;
+    // Null for the direct children of the root
+    final @Nullable Lens[] parents;
+    final int[] offsets;
+    private final Cache<SpongeDepthQuery, Map<Lens, Integer>> structuralMatches = Caffeine.newBuilder()
+        .maximumSize(QueryPlan.MAX_STRUCTURAL_MATCHES)
+        .build();
+
+    private QueryPlan(final Lens root) {
+        final List<Lens> lenses = new ArrayList<>();
+        final List<@Nullable Lens> parents = new ArrayList<>();
+        final List<Integer> offsets = new ArrayList<>();
+        QueryPlan.flatten(root, null, QueryPlan.baseOf(root), lenses, parents, offsets);
+
+        this.lenses = lenses.toArray(new Lens[0]);
+        this.parents = parents.toArray(new Lens[0]);
+        this.offsets = offsets.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static void flatten(final Lens lens, final @Nullable Lens recordedParent, final int offset, final List<Lens> lenses,
+            final List<@Nullable Lens> parents, final List<Integer> offsets) {
+        for (final Lens child : lens.getChildren()) {
+            if (child == null) {
+                continue;
+            }
+            if (!child.getChildren().isEmpty()) {
+                QueryPlan.flatten(child, child, offset + QueryPlan.baseOf(child), lenses, parents, offsets);
+            }
+            lenses.add(child);
+            parents.add(recordedParent);
+            offsets.add(offset);
+        }
+    }
+
+    private static int baseOf(final Lens lens) {
+        // Only delegating lenses shift the slots of their matches
+        return lens instanceof DelegatingLens ? lens.base() : 0;
+    }
+
+    /**
+     * Gets the matches of a structural query against this plan, searching
+     * them only if they are not known yet.
+     *
+     * @param query The structural query
+     * @param search Searches the matches of the query
+     * @return The unmodifiable matches, in traversal order
+     */
+    Map<Lens, Integer> structuralMatches(final SpongeDepthQuery query, final Supplier<Map<Lens, Integer>> search) {
+        return this.structuralMatches.get(query, k -> Collections.unmodifiableMap(new LinkedHashMap<>(search.get())));
+    }
+}
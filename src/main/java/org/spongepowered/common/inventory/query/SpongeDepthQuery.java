@@ -28,19 +28,35 @@
 import org.spongepowered.common.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.inventory.fabric.Fabric;
 import org.spongepowered.common.inventory.lens.Lens;
-import org.spongepowered.common.inventory.lens.impl.DelegatingLens;
 
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
  * Checks immediate child for matches first.
  * If no match is found matching continues using a depth-first search.
+ *
+ * <p>The search walks the {@link QueryPlan} of the lens tree instead of
+ * recursing through it.</p>
  */
 public abstract class SpongeDepthQuery extends SpongeQuery {
 
     public abstract boolean matches(Lens lens, Lens parent, Inventory inventory);
 
+    /**
+     * Whether {@link #matches(Lens, Lens, Inventory)} only depends on the
+     * lens tree and never on the inventory or its contents. The matches of
+     * such a query are searched once per lens tree and reused afterwards,
+     * so implementations returning true must also implement
+     * {@link Object#equals(Object)} and {@link Object#hashCode()}.
+     *
+     * @return Whether this query only matches on the lens tree
+     */
+    public boolean isStructural() {
+        return false;
+    }
+
     public Inventory execute(Inventory inventory, InventoryAdapter adapter) {
         final Fabric fabric = adapter.inventoryAdapter$getFabric();
         final Lens lens = adapter.inventoryAdapter$getRootLens();
@@ -49,28 +65,28 @@ public Inventory execute(Inventory inventory, InventoryAdapter adapter) {
             return lens.getAdapter(fabric, inventory);
         }
 
-        return this.toResult(inventory, fabric, this.reduce(fabric, lens, this.depthFirstSearch(inventory, lens)));
-    }
+        final QueryPlan plan = QueryPlan.of(lens);
+        if (!this.isStructural()) {
+            return this.toResult(inventory, fabric, this.reduce(fabric, lens, this.search(plan, lens, inventory)));
+        }
 
-    private Map<Lens, Integer> depthFirstSearch(Inventory inventory, Lens lens) {
-        Map<Lens, Integer> matches = new LinkedHashMap<>();
+        // Only the matches are reused, reducing them resolves slot lenses against the
+        // live fabric (e.g. the selected hotbar slot) and has to happen every time.
+        final Map<Lens, Integer> matches = plan.structuralMatches(this, () -> this.search(plan, lens, inventory));
+        return this.toResult(inventory, fabric, this.reduce(fabric, lens, new LinkedHashMap<>(matches)));
+    }
 
-        for (Lens child : lens.getChildren()) {
-            if (child == null) {
-                continue;
-            }
-            if (!child.getChildren().isEmpty()) {
-                matches.putAll(this.depthFirstSearch(inventory, child));
-            }
-            if (this.matches(child, lens, inventory)) {
-                matches.put(child, 0);
+    private Map<Lens, Integer> search(final QueryPlan plan, final Lens root, final Inventory inventory) {
+        Map<Lens, Integer> matches = null;
+        for (int i = 0; i < plan.lenses.length; i++) {
+            final Lens parent = plan.parents[i] == null ? root : plan.parents[i];
+            if (this.matches(plan.lenses[i], parent, inventory)) {
+                if (matches == null) {
+                    matches = new LinkedHashMap<>();
+                }
+                matches.put(plan.lenses[i], plan.offsets[i]);
             }
         }
-
-        if (lens.base() != 0 && !matches.isEmpty() && lens instanceof DelegatingLens) {
-            matches.entrySet().forEach(entry -> entry.setValue(entry.getValue() + lens.base()));
-        }
-
-        return matches;
+        return matches == null ? Collections.emptyMap() : matches;
     }
-}
\ No newline at end of file
+}
@@ -41,4 +41,25 @@ public boolean matches(Lens lens, Lens parent, Inventory inventory) {
         return this.lens.equals(lens);
     }
 
+    @Override
+    public boolean isStructural() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || this.getClass() != o.getClass()) {
+            return false;
+        }
+        return this.lens.equals(((LensQuery) o).lens);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.lens.hashCode();
+    }
+
 }
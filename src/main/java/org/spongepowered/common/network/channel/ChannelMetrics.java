@@ -0,0 +1,82 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network.channel;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters for the outgoing traffic of a single channel.
+ */
+public final class ChannelMetrics {
+
+    private final LongAdder packets = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder encodes = new LongAdder();
+    private final LongAdder encodeNanos = new LongAdder();
+
+    public void recordSent(final int bytes) {
+        this.packets.increment();
+        this.bytes.add(bytes);
+    }
+
+    public void recordEncode(final long nanos) {
+        this.encodes.increment();
+        this.encodeNanos.add(nanos);
+    }
+
+    /**
+     * Gets the number of payload packets handed to connections. A broadcast
+     * counts once per recipient.
+     *
+     * @return The packet count
+     */
+    public long packets() {
+        return this.packets.sum();
+    }
+
+    /**
+     * Gets the number of payload bytes handed to connections. A broadcast
+     * counts once per recipient.
+     *
+     * @return The byte count
+     */
+    public long bytes() {
+        return this.bytes.sum();
+    }
+
+    /**
+     * Gets the number of times a payload was encoded. A broadcast is only
+     * encoded once.
+     *
+     * @return The encode count
+     */
+    public long encodes() {
+        return this.encodes.sum();
+    }
+
+    public long encodeNanos() {
+        return this.encodeNanos.sum();
+    }
+}
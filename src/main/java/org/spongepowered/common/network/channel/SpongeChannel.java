@@ -26,6 +26,8 @@
 
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.Multimap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -42,13 +44,18 @@
 import org.spongepowered.api.network.channel.ChannelExceptionHandler;
 import org.spongepowered.api.network.channel.ChannelNotSupportedException;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.bridge.network.ConnectionHolderBridge;
 
+import java.nio.channels.ClosedChannelException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import net.minecraft.network.Connection;
+import net.minecraft.network.protocol.Packet;
 
 @SuppressWarnings("unchecked")
 public abstract class SpongeChannel implements Channel {
@@ -57,6 +64,7 @@ public abstract class SpongeChannel implements Channel {
     private final SpongeChannelManager manager;
     private final Logger logger;
     private final int type;
+    private final ChannelMetrics metrics = new ChannelMetrics();
 
     private volatile ChannelExceptionHandler<EngineConnection> exceptionHandler =
             ChannelExceptionHandler.logEverything().suppress(ChannelNotSupportedException.class);
@@ -76,6 +84,10 @@ public Logger getLogger() {
         return this.logger;
     }
 
+    public ChannelMetrics metrics() {
+        return this.metrics;
+    }
+
     @Override
     public SpongeChannelManager manager() {
         return this.manager;
@@ -107,6 +119,68 @@ public boolean checkSupported(final EngineConnection connection, final Completab
         return true;
     }
 
+    /**
+     * Sends an already encoded play payload to every given connection.
+     *
+     * <p>The payload is encoded only once. Each remote connection receives
+     * a retained duplicate of the payload, which is released once it has
+     * been written. In-memory connections get their own copy instead,
+     * because the packet is handed over without being serialized. The
+     * caller's reference to the payload is always released.</p>
+     *
+     * @param connections The connections to send the payload to
+     * @param payload The encoded payload
+     * @return A future completing once every connection sent the payload
+     */
+    public CompletableFuture<Void> sendPlayPayloadToAll(final Collection<? extends EngineConnection> connections, final ChannelBuf payload) {
+        final ByteBuf shared = (ByteBuf) payload;
+        final int size = shared.readableBytes();
+        final List<CompletableFuture<Void>> futures = new ArrayList<>(connections.size());
+        try {
+            for (final EngineConnection connection : connections) {
+                final CompletableFuture<Void> future = new CompletableFuture<>();
+                futures.add(future);
+                if (ConnectionUtil.isLoginPhase(connection)) {
+                    this.handleException(connection, new IllegalStateException("Payloads can only be broadcast to connections in the play phase."), future);
+                    continue;
+                }
+                if (!this.checkSupported(connection, future)) {
+                    continue;
+                }
+                final Connection networkConnection = ((ConnectionHolderBridge) connection).bridge$getConnection();
+                if (!networkConnection.isConnected()) {
+                    // Packets sent to a closed connection are dropped without notifying the listener
+                    this.handleException(connection, new ClosedChannelException(), future);
+                    continue;
+                }
+                final boolean memory = networkConnection.isMemoryConnection();
+                final ByteBuf data = memory ? Unpooled.copiedBuffer(shared) : shared.retainedDuplicate();
+                try {
+                    final Packet<?> mcPacket = PacketUtil.createPlayPayload(this.key, ChannelBuffers.wrap(data), connection.side());
+                    this.metrics.recordSent(size);
+                    PacketSender.sendTo(connection, mcPacket, sendFuture -> {
+                        if (!memory) {
+                            data.release();
+                        }
+                        if (sendFuture.isSuccess()) {
+                            future.complete(null);
+                        } else {
+                            this.handleException(connection, sendFuture.cause(), future);
+                        }
+                    });
+                } catch (final Throwable ex) {
+                    if (!memory) {
+                        data.release();
+                    }
+                    this.handleException(connection, ex, future);
+                }
+            }
+        } finally {
+            shared.release();
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+    }
+
     /**
      * Handles a normal payload packet. Can be run on the client or server side.
      *
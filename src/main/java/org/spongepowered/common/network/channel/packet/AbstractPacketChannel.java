@@ -85,10 +85,12 @@ public Collection<PacketBinding<?>> bindings() {
     }
 
     protected void encodePayload(final ChannelBuf payload, final Packet packet) {
+        final long start = System.nanoTime();
         final ChannelBuf packetContent = this.manager().getBufferAllocator().buffer();
         try {
             this.encodePayloadUnsafe(packetContent, packet);
             ChannelBuffers.write(payload, packetContent);
+            this.metrics().recordEncode(System.nanoTime() - start);
         } catch (final Throwable ex) {
             ChannelBuffers.release(payload);
             throw ex;
@@ -44,6 +44,7 @@
 import org.spongepowered.common.network.channel.TransactionStore;
 import org.spongepowered.common.util.Constants;
 
+import java.util.Collection;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
@@ -134,6 +135,7 @@ private <P extends RequestPacket<R>, R extends Packet> void sendRequestPacketTo(
             transactionStore.put(transactionId, this, transactionData);
         }
 
+        this.metrics().recordSent(payload.available());
         final net.minecraft.network.protocol.Packet<?> mcPacket = mcPacketSupplier.get();
         PacketSender.sendTo(connection, mcPacket, sendFuture -> {
             if (!sendFuture.isSuccess()) {
@@ -199,6 +201,7 @@ private <P extends RequestPacket<R>, R extends Packet> void sendResponsePacketTo
             return;
         }
 
+        this.metrics().recordSent(payload.available());
         final net.minecraft.network.protocol.Packet<?> mcPacket = mcPacketSupplier.get();
         PacketSender.sendTo(connection, mcPacket);
     }
@@ -235,6 +238,7 @@ private <P extends Packet> void sendNormalPacketTo(final EngineConnection connec
             return;
         }
 
+        this.metrics().recordSent(payload.available());
         final net.minecraft.network.protocol.Packet<?> mcPacket = mcPacketSupplier.get();
         PacketSender.sendTo(connection, mcPacket, future);
     }
@@ -270,6 +274,34 @@ public CompletableFuture<Void> sendTo(final EngineConnection connection, final P
         return future;
     }
 
+    /**
+     * Sends a normal packet to every given play phase connection, encoding
+     * it only once.
+     *
+     * @param connections The connections to send the packet to
+     * @param packet The packet to send
+     * @return A future completing once every connection sent the packet
+     */
+    public CompletableFuture<Void> sendToAll(final Collection<? extends EngineConnection> connections, final Packet packet) {
+        Objects.requireNonNull(connections, "connections");
+        Objects.requireNonNull(packet, "packet");
+        if (packet instanceof RequestPacket) {
+            throw new IllegalArgumentException("Request packets can't be broadcast, their responses are bound to a single connection.");
+        }
+        final SpongePacketBinding<Packet> binding = this.requireBinding(packet.getClass());
+
+        final ChannelBuf payload = this.manager().getBufferAllocator().buffer();
+        payload.writeVarLong(SpongePacketChannel.packTypeAndValue(SpongePacketChannel.TYPE_NORMAL, binding.opcode()));
+        try {
+            this.encodePayload(payload, packet);
+        } catch (final Throwable ex) {
+            final CompletableFuture<Void> future = new CompletableFuture<>();
+            future.completeExceptionally(ex);
+            return future;
+        }
+        return this.sendPlayPayloadToAll(connections, payload);
+    }
+
     private void handleResponsePacket(final EngineConnection connection, final int transactionId, final @Nullable ChannelBuf payload,
             final int dynamicOpcode) {
         final TransactionStore store = ConnectionUtil.getTransactionStore(connection);
@@ -30,6 +30,7 @@
 import org.spongepowered.api.network.channel.raw.RawDataChannel;
 import org.spongepowered.api.network.channel.raw.handshake.RawHandshakeDataChannel;
 import org.spongepowered.api.network.channel.raw.play.RawPlayDataChannel;
+import org.spongepowered.common.network.channel.ChannelBuffers;
 import org.spongepowered.common.network.channel.SpongeChannel;
 import org.spongepowered.common.network.channel.SpongeChannelManager;
 import org.spongepowered.common.network.channel.TransactionResult;
@@ -71,8 +72,15 @@ protected void handleTransactionResponse(EngineConnection connection, Object sto
     }
 
     ChannelBuf encodePayload(final Consumer<ChannelBuf> payload) {
+        final long start = System.nanoTime();
         final ChannelBuf buf = this.manager().getBufferAllocator().buffer();
-        payload.accept(buf);
+        try {
+            payload.accept(buf);
+        } catch (final Throwable ex) {
+            ChannelBuffers.release(buf);
+            throw ex;
+        }
+        this.metrics().recordEncode(System.nanoTime() - start);
         return buf;
     }
 }
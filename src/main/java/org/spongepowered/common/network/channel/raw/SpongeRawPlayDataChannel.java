@@ -116,11 +116,35 @@ public CompletableFuture<Void> sendTo(final EngineConnection connection, final C
             return future;
         }
 
+        this.parent.metrics().recordSent(payload.available());
         final Packet<?> mcPacket = PacketUtil.createPlayPayload(this.parent.key(), payload, connection.side());
         PacketSender.sendTo(connection, mcPacket, future);
         return future;
     }
 
+    /**
+     * Sends the same payload to every given play phase connection, writing
+     * it only once.
+     *
+     * @param connections The connections to send the payload to
+     * @param consumer The payload writer
+     * @return A future completing once every connection sent the payload
+     */
+    public CompletableFuture<Void> sendToAll(final Collection<? extends EngineConnection> connections, final Consumer<ChannelBuf> consumer) {
+        Objects.requireNonNull(connections, "connections");
+        Objects.requireNonNull(consumer, "payload");
+
+        final ChannelBuf payload;
+        try {
+            payload = this.parent.encodePayload(consumer);
+        } catch (final Throwable ex) {
+            final CompletableFuture<Void> future = new CompletableFuture<>();
+            future.completeExceptionally(ex);
+            return future;
+        }
+        return this.parent.sendPlayPayloadToAll(connections, payload);
+    }
+
     private <C extends EngineConnection> Collection<RawPlayDataHandler<? super C>> getHandlers(final C connection) {
         return (Collection) SpongeChannel.getResponseHandlers(connection, this.handlers.get());
     }
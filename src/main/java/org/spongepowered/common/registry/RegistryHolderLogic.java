@@ -75,6 +75,7 @@ public RegistryHolderLogic() {
                 Lifecycle.stable()
             )
         );
+        SpongeDefaultedRegistryReference.invalidateAll();
     }
 
     public RegistryHolderLogic(final RegistryAccess dynamicAccess) {
@@ -91,6 +92,7 @@ public RegistryHolderLogic(final RegistryAccess dynamicAccess) {
 
     public void setRootMinecraftRegistry(final net.minecraft.core.Registry<net.minecraft.core.Registry<?>> rootRegistry) {
         this.roots.put(RegistryRoots.MINECRAFT, rootRegistry);
+        SpongeDefaultedRegistryReference.invalidateAll();
     }
 
     @Override
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.registry;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.registry.DefaultedRegistryReference;
 import org.spongepowered.api.registry.Registry;
 import org.spongepowered.api.registry.RegistryHolder;
@@ -31,11 +32,19 @@
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 public final class SpongeDefaultedRegistryReference<T> extends SpongeRegistryReference<T> implements DefaultedRegistryReference<T> {
 
+    /**
+     * Bumped whenever a registry holder is created or a registry gains or
+     * replaces a value, invalidating every memoized reference at once.
+     */
+    private static final AtomicInteger GENERATION = new AtomicInteger();
+
     private final Supplier<RegistryHolder> defaultHolder;
+    private @Nullable Resolved<T> resolved;
 
     public SpongeDefaultedRegistryReference(final RegistryKey<T> key, final Supplier<RegistryHolder> defaultHolder) {
         super(key);
@@ -43,9 +52,20 @@ public SpongeDefaultedRegistryReference(final RegistryKey<T> key, final Supplier
     }
 
 
+    public static void invalidateAll() {
+        SpongeDefaultedRegistryReference.GENERATION.incrementAndGet();
+    }
+
     @Override
     public T get() {
-        return this.defaultHolder.get().registry(this.registry()).value(this.location());
+        final int generation = SpongeDefaultedRegistryReference.GENERATION.get();
+        final @Nullable Resolved<T> resolved = this.resolved;
+        if (resolved != null && resolved.generation == generation) {
+            return resolved.value;
+        }
+        final T value = this.defaultHolder.get().registry(this.registry()).value(this.location());
+        this.resolved = new Resolved<>(value, generation);
+        return value;
     }
 
     @Override
@@ -58,4 +78,15 @@ public Optional<T> find() {
     public Supplier<RegistryHolder> defaultHolder() {
         return this.defaultHolder;
     }
+
+    private static final class Resolved<T> {
+
+        final T value;
+        final int generation;
+
+        Resolved(final T value, final int generation) {
+            this.value = value;
+            this.generation = generation;
+        }
+    }
 }
@@ -89,6 +89,8 @@ public <V extends T> V registerMapping(int $$0, ResourceKey<T> $$1, V $$2, Lifec
         if (this.nextId <= $$0) {
             this.nextId = $$0 + 1;
         }
+        // Sponge - memoized defaulted references may point at a replaced value
+        SpongeDefaultedRegistryReference.invalidateAll();
 
         return $$2;
     }
@@ -115,6 +117,7 @@ public <V extends T> V registerOrOverride(OptionalInt $$0, ResourceKey<T> $$1, V
             this.lifecycles.remove($$4);
         }
 
+        // Invalidates the defaulted references to the overridden value
         return this.registerMapping($$5, $$1, $$2, $$3);
     }
 
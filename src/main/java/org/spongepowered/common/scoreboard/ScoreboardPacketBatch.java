@@ -0,0 +1,209 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scoreboard;
+
+import it.unimi.dsi.fastutil.objects.Object2IntLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientboundSetPlayerTeamPacket;
+import net.minecraft.network.protocol.game.ClientboundSetScorePacket;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.ServerScoreboard;
+import net.minecraft.server.level.ServerPlayer;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.accessor.network.protocol.game.ClientboundSetPlayerTeamPacketAccessor;
+import org.spongepowered.common.accessor.network.protocol.game.ClientboundSetScorePacketAccessor;
+import org.spongepowered.common.util.Constants;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Batches the packets of a single scoreboard and sends them once per tick,
+ * only including scores that differ from what the viewers last received.
+ *
+ * <p>Every viewer of a scoreboard is sent its complete state when attached,
+ * so the last sent state is tracked once per scoreboard rather than once
+ * per player. Sidebar plugins giving each player its own scoreboard
+ * therefore get per viewer diffing.</p>
+ *
+ * <p>Only score changes, score removals from a single objective and team
+ * info updates are batched. Any other packet flushes the batch before it
+ * is sent, which keeps the order observed by clients intact. Removals are
+ * always sent, since clients may have received scores outside of the
+ * batch.</p>
+ *
+ * <p>Batches are confined to the server thread, packets sent from any other
+ * thread are handed over to it.</p>
+ */
+public final class ScoreboardPacketBatch {
+
+    // Only touched on the server thread
+    private static final Set<ScoreboardPacketBatch> DIRTY = new ReferenceLinkedOpenHashSet<>();
+
+    private final List<ServerPlayer> viewers;
+    // objective name -> owner -> score, as last sent to the viewers
+    private final Map<String, Object2IntMap<String>> sent = new HashMap<>();
+    private final Map<String, Object2IntLinkedOpenHashMap<String>> pendingChanges = new LinkedHashMap<>();
+    private final Map<String, ObjectLinkedOpenHashSet<String>> pendingRemovals = new LinkedHashMap<>();
+    private final Map<String, ClientboundSetPlayerTeamPacket> pendingTeamUpdates = new LinkedHashMap<>();
+
+    public ScoreboardPacketBatch(final List<ServerPlayer> viewers) {
+        this.viewers = viewers;
+    }
+
+    /**
+     * Flushes all scoreboards with pending changes, called at the end of
+     * every server tick.
+     */
+    public static void flushAll() {
+        if (ScoreboardPacketBatch.DIRTY.isEmpty()) {
+            return;
+        }
+        final ScoreboardPacketBatch[] dirty = ScoreboardPacketBatch.DIRTY.toArray(new ScoreboardPacketBatch[0]);
+        ScoreboardPacketBatch.DIRTY.clear();
+        for (final ScoreboardPacketBatch batch : dirty) {
+            batch.flush();
+        }
+    }
+
+    /**
+     * Sends the given packet to all viewers, batching it if possible.
+     *
+     * @param packet The packet
+     */
+    public void send(final Packet<?> packet) {
+        final MinecraftServer server = SpongeCommon.server();
+        if (!server.isSameThread()) {
+            server.execute(() -> this.send(packet));
+            return;
+        }
+        if (packet instanceof ClientboundSetScorePacket && this.queueScore((ClientboundSetScorePacketAccessor) packet)) {
+            return;
+        }
+        if (packet instanceof ClientboundSetPlayerTeamPacket
+            && ((ClientboundSetPlayerTeamPacketAccessor) packet).accessor$method() == Constants.Scoreboards.TEAM_PACKET_CHANGE) {
+            this.pendingTeamUpdates.put(((ClientboundSetPlayerTeamPacketAccessor) packet).accessor$name(), (ClientboundSetPlayerTeamPacket) packet);
+            ScoreboardPacketBatch.DIRTY.add(this);
+            return;
+        }
+        this.flush();
+        if (packet instanceof ClientboundSetScorePacket) {
+            // Removal of an owner from all objectives
+            final String owner = ((ClientboundSetScorePacketAccessor) packet).accessor$owner();
+            for (final Object2IntMap<String> scores : this.sent.values()) {
+                scores.removeInt(owner);
+            }
+        }
+        this.sendNow(packet);
+    }
+
+    private boolean queueScore(final ClientboundSetScorePacketAccessor packet) {
+        final String objective = packet.accessor$objectiveName();
+        if (objective == null) {
+            return false;
+        }
+        final String owner = packet.accessor$owner();
+        if (packet.accessor$method() == ServerScoreboard.Method.CHANGE) {
+            final ObjectLinkedOpenHashSet<String> removals = this.pendingRemovals.get(objective);
+            if (removals != null) {
+                removals.remove(owner);
+            }
+            this.pendingChanges.computeIfAbsent(objective, k -> new Object2IntLinkedOpenHashMap<>()).put(owner, packet.accessor$score());
+        } else {
+            final Object2IntLinkedOpenHashMap<String> changes = this.pendingChanges.get(objective);
+            if (changes != null) {
+                changes.removeInt(owner);
+            }
+            this.pendingRemovals.computeIfAbsent(objective, k -> new ObjectLinkedOpenHashSet<>()).add(owner);
+        }
+        ScoreboardPacketBatch.DIRTY.add(this);
+        return true;
+    }
+
+    /**
+     * Forgets what was sent for the given objective, for when the client
+     * state of the objective was reset outside of this batch.
+     *
+     * @param objective The objective name
+     */
+    public void forgetObjective(final String objective) {
+        this.sent.remove(objective);
+        this.pendingChanges.remove(objective);
+        this.pendingRemovals.remove(objective);
+    }
+
+    /**
+     * Sends all pending changes that differ from the last sent state.
+     */
+    public void flush() {
+        for (final Map.Entry<String, ObjectLinkedOpenHashSet<String>> entry : this.pendingRemovals.entrySet()) {
+            final Object2IntMap<String> sent = this.sent.get(entry.getKey());
+            for (final String owner : entry.getValue()) {
+                // The client may know the score without this batch having sent it, for
+                // example from the full state sent to new viewers, so never skip a removal
+                if (sent != null) {
+                    sent.removeInt(owner);
+                }
+                this.sendNow(new ClientboundSetScorePacket(ServerScoreboard.Method.REMOVE, entry.getKey(), owner, 0));
+            }
+            entry.getValue().clear();
+        }
+        for (final Map.Entry<String, Object2IntLinkedOpenHashMap<String>> entry : this.pendingChanges.entrySet()) {
+            final Object2IntLinkedOpenHashMap<String> changes = entry.getValue();
+            if (changes.isEmpty()) {
+                continue;
+            }
+            final Object2IntMap<String> sent = this.sent.computeIfAbsent(entry.getKey(), k -> new Object2IntOpenHashMap<>());
+            for (final Object2IntMap.Entry<String> change : changes.object2IntEntrySet()) {
+                final String owner = change.getKey();
+                final int score = change.getIntValue();
+                if (!sent.containsKey(owner) || sent.getInt(owner) != score) {
+                    sent.put(owner, score);
+                    this.sendNow(new ClientboundSetScorePacket(ServerScoreboard.Method.CHANGE, entry.getKey(), owner, score));
+                }
+            }
+            changes.clear();
+        }
+        if (!this.pendingTeamUpdates.isEmpty()) {
+            for (final ClientboundSetPlayerTeamPacket packet : this.pendingTeamUpdates.values()) {
+                this.sendNow(packet);
+            }
+            this.pendingTeamUpdates.clear();
+        }
+    }
+
+    private void sendNow(final Packet<?> packet) {
+        for (final ServerPlayer player : this.viewers) {
+            player.connection.send(packet);
+        }
+    }
+}
@@ -211,7 +211,7 @@ private void updateDisplayName() {
     public void updateScores(final net.minecraft.world.scores.Scoreboard scoreboard) {
         final net.minecraft.world.scores.Objective objective = this.getObjectiveFor(scoreboard);
 
-        for (final Score score: this.scores().values()) {
+        for (final Score score: this.scores.values()) {
             final SpongeScore spongeScore = (SpongeScore) score;
             this.addScoreToScoreboard(scoreboard, spongeScore.getScoreFor(objective));
         }
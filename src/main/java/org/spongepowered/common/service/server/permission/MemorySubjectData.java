@@ -407,17 +407,10 @@ public CompletableFuture<Boolean> setOption(Set<Context> contexts, final String
             }
         }
         do {
-            if (value == null) {
-                if (!origMap.containsKey(key)) {
-                    return CompletableFuture.completedFuture(false);
-                }
-                newMap = new HashMap<>(origMap);
-                newMap.remove(key);
-            } else {
-                newMap = new HashMap<>(origMap);
-                newMap.put(key, value);
+            if (value == null && !origMap.containsKey(key)) {
+                return CompletableFuture.completedFuture(false);
             }
-            newMap = ImmutableMap.copyOf(newMap);
+            newMap = MemorySubjectData.withOption(origMap, key, value);
         } while (!this.options.replace(contexts, origMap, newMap));
         this.onUpdate();
         return CompletableFuture.completedFuture(true);
@@ -435,7 +428,7 @@ public CompletableFuture<Boolean> setOptions(Set<Context> contexts, final Map<St
                 case MERGE:
                     final Map<String, String> newOptions = oldOptions == null ? new HashMap<>() : new HashMap<>(oldOptions);
                     newOptions.putAll(options);
-                    if (this.updateCollection(this.options, contexts, oldOptions, newOptions)) {
+                    if (this.updateCollection(this.options, contexts, oldOptions, ImmutableMap.copyOf(newOptions))) {
                         break outer;
                     }
                     break;
@@ -453,6 +446,23 @@ public CompletableFuture<Boolean> setOptions(Set<Context> contexts, final Map<St
         return CompletableFuture.completedFuture(true);
     }
 
+    /**
+     * Copies the given options with a single key changed, in one pass over
+     * the original map.
+     */
+    private static Map<String, String> withOption(final Map<String, String> original, final String key, final @Nullable String value) {
+        final ImmutableMap.Builder<String, String> builder = ImmutableMap.builder();
+        for (final Map.Entry<String, String> entry : original.entrySet()) {
+            if (!entry.getKey().equals(key)) {
+                builder.put(entry);
+            }
+        }
+        if (value != null) {
+            builder.put(key, value);
+        }
+        return builder.build();
+    }
+
     @Override
     public CompletableFuture<Boolean> clearOptions() {
         final boolean wasEmpty = this.options.isEmpty();
@@ -472,6 +482,66 @@ public CompletableFuture<Boolean> clearOptions(final Set<Context> contexts) {
         return CompletableFuture.completedFuture(ret);
     }
 
+    /**
+     * Applies a batch of permission and option changes, grouped by context
+     * set. Each context set is swapped in with a single update no matter how
+     * many entries change, and {@link #onUpdate()} is called at most once.
+     *
+     * <p>A {@code null} option value removes the option, and
+     * {@link Tristate#UNDEFINED} unsets a permission.</p>
+     *
+     * @param permissions The permission changes, by context set
+     * @param options The option changes, by context set
+     * @return Whether any data was changed
+     * @see SubjectDataTransaction
+     */
+    boolean applyBatch(final Map<Set<Context>, Map<String, Tristate>> permissions,
+            final Map<Set<Context>, Map<String, @Nullable String>> options) {
+        boolean changed = false;
+        for (final Map.Entry<Set<Context>, Map<String, Tristate>> entry : permissions.entrySet()) {
+            if (entry.getValue().isEmpty()) {
+                continue;
+            }
+            final Set<Context> contexts = ImmutableSet.copyOf(entry.getKey());
+            while (true) {
+                final @Nullable NodeTree oldTree = this.permissions.get(contexts);
+                final NodeTree newTree = (oldTree == null ? NodeTree.of(Collections.emptyMap()) : oldTree).withAllTristates(entry.getValue());
+                if (newTree.asMap().equals(oldTree == null ? Collections.emptyMap() : oldTree.asMap())) {
+                    break;
+                }
+                if (this.updateCollection(this.permissions, contexts, oldTree, newTree)) {
+                    changed = true;
+                    break;
+                }
+            }
+        }
+        for (final Map.Entry<Set<Context>, Map<String, @Nullable String>> entry : options.entrySet()) {
+            final Set<Context> contexts = ImmutableSet.copyOf(entry.getKey());
+            while (true) {
+                final @Nullable Map<String, String> oldOptions = this.options.get(contexts);
+                final Map<String, String> merged = oldOptions == null ? new HashMap<>() : new HashMap<>(oldOptions);
+                for (final Map.Entry<String, @Nullable String> option : entry.getValue().entrySet()) {
+                    if (option.getValue() == null) {
+                        merged.remove(option.getKey());
+                    } else {
+                        merged.put(option.getKey(), option.getValue());
+                    }
+                }
+                if (merged.equals(oldOptions == null ? Collections.emptyMap() : oldOptions)) {
+                    break;
+                }
+                if (this.updateCollection(this.options, contexts, oldOptions, merged.isEmpty() ? null : ImmutableMap.copyOf(merged))) {
+                    changed = true;
+                    break;
+                }
+            }
+        }
+        if (changed) {
+            this.onUpdate();
+        }
+        return changed;
+    }
+
     @Override
     public CompletableFuture<Boolean> copyFrom(final SubjectData other, final TransferMethod method) {
         Objects.requireNonNull(other, "other");
@@ -25,6 +25,7 @@
 package org.spongepowered.common.service.server.permission;
 
 import com.google.common.collect.ImmutableMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.service.permission.NodeTree;
 import org.spongepowered.api.util.Tristate;
 
@@ -116,48 +117,81 @@ private void populateMap(final ImmutableMap.Builder<String, Boolean> values, fin
 
     @Override
     public NodeTree withValue(final String node, final Tristate value) {
-        final String[] parts = SpongeNodeTree.NODE_SPLIT.split(node.toLowerCase(), -1);
-        final Node newRoot = new Node(new HashMap<>(this.rootNode.children));
-        Node newPtr = newRoot;
-        Node currentPtr = this.rootNode;
-
-        newPtr.value = currentPtr == null ? Tristate.UNDEFINED : currentPtr.value;
-        for (String part : parts) {
-            final Node oldChild = currentPtr == null ? null : currentPtr.children.get(part);
-            final Node newChild = new Node(oldChild != null ? new HashMap<>(oldChild.children) : new HashMap<>());
-            newPtr.children.put(part, newChild);
-            currentPtr = oldChild;
-            newPtr = newChild;
-        }
-        newPtr.value = value;
+        final Object edit = new Object();
+        final Node newRoot = this.rootNode.editable(edit);
+        newRoot.set(edit, node, value);
         return new SpongeNodeTree(newRoot);
     }
 
     @Override
     public NodeTree withAll(final Map<String, Boolean> values) {
-        NodeTree ret = this;
-        for (final Map.Entry<String, Boolean> ent : values.entrySet()) {
-            ret = ret.withValue(ent.getKey(), Tristate.fromBoolean(ent.getValue()));
-        }
-        return ret;
+        return this.withAll(values, Tristate::fromBoolean);
     }
 
     @Override
     public NodeTree withAllTristates(final Map<String, Tristate> values) {
-        NodeTree ret = this;
-        for (Map.Entry<String, Tristate> ent : values.entrySet()) {
-            ret = ret.withValue(ent.getKey(), ent.getValue());
+        return this.withAll(values, Function.identity());
+    }
+
+    /**
+     * Applies every value in a single edit. Nodes along the modified paths
+     * are copied at most once for the whole batch, while every untouched
+     * subtree is shared with this tree.
+     */
+    private <T> NodeTree withAll(final Map<String, T> values, final Function<T, Tristate> converter) {
+        if (values.isEmpty()) {
+            return this;
         }
-        return ret;
+        final Object edit = new Object();
+        final Node newRoot = this.rootNode.editable(edit);
+        for (final Map.Entry<String, T> ent : values.entrySet()) {
+            newRoot.set(edit, ent.getKey(), converter.apply(ent.getValue()));
+        }
+        return new SpongeNodeTree(newRoot);
     }
 
+    /**
+     * A node of the tree. Nodes are never modified once the tree owning them
+     * has been handed out, which lets derived trees share them. A node may
+     * only be modified by the edit that created it, identified by its
+     * {@code edit} token.
+     */
     public static class Node {
 
         final Map<String, SpongeNodeTree.Node> children;
         Tristate value = Tristate.UNDEFINED;
+        private final @Nullable Object edit;
+
+        Node(final Map<String, SpongeNodeTree.Node> children) {
+            this(children, null);
+        }
 
-        Node(Map<String, SpongeNodeTree.Node> children) {
+        private Node(final Map<String, SpongeNodeTree.Node> children, final @Nullable Object edit) {
             this.children = children;
+            this.edit = edit;
+        }
+
+        Node editable(final Object edit) {
+            if (this.edit == edit) {
+                return this;
+            }
+            final Node copy = new Node(new HashMap<>(this.children), edit);
+            copy.value = this.value;
+            return copy;
+        }
+
+        void set(final Object edit, final String node, final Tristate value) {
+            final String[] parts = SpongeNodeTree.NODE_SPLIT.split(node.toLowerCase(), -1);
+            Node current = this;
+            for (final String part : parts) {
+                final Node oldChild = current.children.get(part);
+                final Node newChild = oldChild == null ? new Node(new HashMap<>(), edit) : oldChild.editable(edit);
+                if (newChild != oldChild) {
+                    current.children.put(part, newChild);
+                }
+                current = newChild;
+            }
+            current.value = value;
         }
     }
 
@@ -201,6 +201,16 @@ public Collection<PermissionDescription> descriptions() {
         return descriptions;
     }
 
+    /**
+     * Creates a transaction for applying many permission and option changes
+     * to subjects of this service at once.
+     *
+     * @return A new transaction
+     */
+    public SubjectDataTransaction newTransaction() {
+        return new SubjectDataTransaction();
+    }
+
     public SpongeSubjectCollection getDefaultCollection() {
         return this.defaultCollection;
     }
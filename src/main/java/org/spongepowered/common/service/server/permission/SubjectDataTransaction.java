@@ -0,0 +1,105 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.server.permission;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.service.context.Context;
+import org.spongepowered.api.service.permission.Subject;
+import org.spongepowered.api.util.Tristate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Collects permission and option changes for any number of subjects and
+ * contexts, then applies them in one go.
+ *
+ * <p>Changes are grouped per subject data and per context set, so each
+ * context set of each subject is rewritten once regardless of how many
+ * entries change. Each subject's changes are applied atomically per context
+ * set. The transaction as a whole is not atomic: other threads may observe
+ * some subjects updated before others.</p>
+ *
+ * <p>This class is not thread-safe; it is meant to be filled by one thread
+ * and committed once.</p>
+ */
+public final class SubjectDataTransaction {
+
+    private final Map<MemorySubjectData, Changes> changes = new IdentityHashMap<>();
+
+    public SubjectDataTransaction setPermission(final Subject subject, final Set<Context> contexts, final String permission, final Tristate value) {
+        Objects.requireNonNull(permission, "permission");
+        Objects.requireNonNull(value, "value");
+        this.changes(subject).permissions.computeIfAbsent(Objects.requireNonNull(contexts, "contexts"), k -> new HashMap<>()).put(permission, value);
+        return this;
+    }
+
+    public SubjectDataTransaction setPermissions(final Subject subject, final Set<Context> contexts, final Map<String, Tristate> permissions) {
+        Objects.requireNonNull(permissions, "permissions");
+        this.changes(subject).permissions.computeIfAbsent(Objects.requireNonNull(contexts, "contexts"), k -> new HashMap<>()).putAll(permissions);
+        return this;
+    }
+
+    public SubjectDataTransaction setOption(final Subject subject, final Set<Context> contexts, final String key, final @Nullable String value) {
+        Objects.requireNonNull(key, "key");
+        this.changes(subject).options.computeIfAbsent(Objects.requireNonNull(contexts, "contexts"), k -> new HashMap<>()).put(key, value);
+        return this;
+    }
+
+    private Changes changes(final Subject subject) {
+        Objects.requireNonNull(subject, "subject");
+        if (!(subject.subjectData() instanceof MemorySubjectData)) {
+            throw new IllegalArgumentException("Subject " + subject.identifier() + " is not backed by the Sponge permission service");
+        }
+        return this.changes.computeIfAbsent((MemorySubjectData) subject.subjectData(), k -> new Changes());
+    }
+
+    /**
+     * Applies every collected change on the calling thread.
+     *
+     * @return A completed future with whether any subject data was changed
+     */
+    public CompletableFuture<Boolean> commit() {
+        final List<Map.Entry<MemorySubjectData, Changes>> entries = new ArrayList<>(this.changes.entrySet());
+        this.changes.clear();
+        boolean changed = false;
+        for (final Map.Entry<MemorySubjectData, Changes> entry : entries) {
+            changed |= entry.getKey().applyBatch(entry.getValue().permissions, entry.getValue().options);
+        }
+        return CompletableFuture.completedFuture(changed);
+    }
+
+    private static final class Changes {
+
+        final Map<Set<Context>, Map<String, Tristate>> permissions = new HashMap<>();
+        final Map<Set<Context>, Map<String, @Nullable String>> options = new HashMap<>();
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.user;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.NbtUtils;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.datafix.DataFixTypes;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.spongepowered.common.SpongeCommon;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads and upgrades the player data file of a logging in player off the
+ * main thread, while the login is still being checked. Placing the player
+ * then only has to pick up the prepared data instead of reading and
+ * upgrading it on the main thread.
+ *
+ * <p>Prepared data is only used if the file did not change since it was
+ * read, so a save during the login, e.g. of changed offline user data, is
+ * never lost.</p>
+ */
+@DefaultQualifier(NonNull.class)
+public final class PlayerDataPreloader {
+
+    // Data of logins that never completed is dropped after this long
+    private static final long EXPIRY_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final MinecraftServer server;
+    private final Executor executor;
+    private final Map<File, Preloaded> preloaded = new ConcurrentHashMap<>();
+
+    PlayerDataPreloader(final MinecraftServer server, final Executor executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    /**
+     * Starts preloading the given player data file.
+     *
+     * @param file The player data file
+     * @return A future completing once the data is prepared, which never
+     *     completes exceptionally
+     */
+    CompletableFuture<Void> preload(final File file) {
+        final long now = System.nanoTime();
+        this.preloaded.values().removeIf(p -> now - p.createdNanos > PlayerDataPreloader.EXPIRY_NANOS);
+        return CompletableFuture.runAsync(() -> {
+            try {
+                if (!file.isFile()) {
+                    return;
+                }
+                final long lastModified = file.lastModified();
+                final long readStart = System.nanoTime();
+                final CompoundTag tag = NbtIo.readCompressed(file);
+                final long upgradeStart = System.nanoTime();
+                final int version = tag.contains("DataVersion", 3) ? tag.getInt("DataVersion") : -1;
+                final CompoundTag upgraded = NbtUtils.update(this.server.getFixerUpper(), DataFixTypes.PLAYER, tag, version);
+                // Loading the player upgrades from the stored version again, which is now the current one
+                upgraded.putInt("DataVersion", SharedConstants.getCurrentVersion().getWorldVersion());
+                final long end = System.nanoTime();
+
+                this.preloaded.put(file, new Preloaded(upgraded, lastModified, file.length(), now));
+                SpongeCommon.logger().debug("Preloaded player data {} in {}ms (read {}ms, upgrade {}ms)", file.getName(),
+                    TimeUnit.NANOSECONDS.toMillis(end - now), TimeUnit.NANOSECONDS.toMillis(upgradeStart - readStart),
+                    TimeUnit.NANOSECONDS.toMillis(end - upgradeStart));
+            } catch (final Exception e) {
+                // Reading it again on the main thread reports the failure and keeps a copy of a corrupted file
+                SpongeCommon.logger().debug("Could not preload player data {}", file.getName(), e);
+            }
+        }, this.executor);
+    }
+
+    /**
+     * Takes the prepared data of the given player data file, if it was
+     * preloaded and the file did not change since.
+     *
+     * @param file The player data file
+     * @return The prepared data, or null
+     */
+    public @Nullable CompoundTag take(final File file) {
+        final @Nullable Preloaded preloaded = this.preloaded.remove(file);
+        if (preloaded == null || preloaded.lastModified != file.lastModified() || preloaded.length != file.length()) {
+            return null;
+        }
+        return preloaded.tag;
+    }
+
+    private static final class Preloaded {
+
+        final CompoundTag tag;
+        final long lastModified;
+        final long length;
+        final long createdNanos;
+
+        Preloaded(final CompoundTag tag, final long lastModified, final long length, final long createdNanos) {
+            this.tag = tag;
+            this.lastModified = lastModified;
+            this.length = length;
+            this.createdNanos = createdNanos;
+        }
+    }
+}
@@ -45,6 +45,7 @@
 import org.spongepowered.common.entity.player.SpongeUserView;
 import org.spongepowered.common.profile.SpongeGameProfile;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
@@ -88,12 +89,14 @@ public final class SpongeUserManager implements UserManager {
             .setDaemon(true)
             .setNameFormat("Sponge-User-Data-Loader")
             .build());
+    private final PlayerDataPreloader playerDataPreloader;
 
     private @Nullable WatchService filesystemWatchService = null;
     private @Nullable WatchKey watchKey = null;
 
     public SpongeUserManager(final MinecraftServer server) {
         this.server = server;
+        this.playerDataPreloader = new PlayerDataPreloader(server, this.executorService);
     }
 
     public void init() {
@@ -255,6 +258,15 @@ private UUID ensureNonEmptyUUID(final UUID uuid) {
 
     //
 
+    public CompletableFuture<Void> preloadPlayerData(final com.mojang.authlib.GameProfile mcProfile) {
+        final File playerDir = ((PlayerDataStorageAccessor) this.getSaveHandler()).accessor$playerDir();
+        return this.playerDataPreloader.preload(new File(playerDir, mcProfile.getId() + ".dat"));
+    }
+
+    public PlayerDataPreloader playerDataPreloader() {
+        return this.playerDataPreloader;
+    }
+
     public void handlePlayerLogin(final com.mojang.authlib.GameProfile mcProfile) throws IOException {
         final @Nullable SpongeUserData currentUser = this.userCache.getIfPresent(mcProfile.getId());
         if (currentUser != null) {
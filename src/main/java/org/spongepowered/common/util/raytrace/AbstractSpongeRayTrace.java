@@ -41,7 +41,6 @@
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -62,6 +61,9 @@
     @Nullable Predicate<Entity> continueWhileEntity = null;
     @Nullable Predicate<ServerLocation> continueWhileLocation = null;
 
+    // Entities the continueWhileEntity filter rejects along the whole ray, only set while executing
+    private @Nullable List<net.minecraft.world.entity.Entity> failingEntities;
+
     AbstractSpongeRayTrace(final Predicate<T> defaultFilter) {
         this.defaultFilter = defaultFilter;
         this.select = defaultFilter;
@@ -164,6 +166,19 @@
         final ServerWorld serverWorld = Sponge.server().worldManager().world(this.world)
                 .orElseThrow(() -> new IllegalStateException("World with key " + this.world.formatted() + " is not loaded!"));
 
+        if (this.requiresEntityTracking()) {
+            // Query the entities of the whole ray once, every step then only has to check
+            // them against its block instead of querying the world again
+            this.gatherEntityCandidates(serverWorld, this.getRayAABB());
+        }
+        try {
+            return this.trace(serverWorld, direction, length);
+        } finally {
+            this.clearEntityCandidates();
+        }
+    }
+
+    private Optional<RayTraceResult<@NonNull T>> trace(final ServerWorld serverWorld, final Vector3d direction, final double length) {
         Vector3i currentBlock = this.initialBlock(direction);
         final Vector3i steps = this.createSteps(direction);
 
@@ -219,7 +234,10 @@
                     resultDistance = Double.MAX_VALUE;
                 }
                 final AABB targetAABB = this.getBlockAABB(currentBlock);
-                for (final net.minecraft.world.entity.Entity entity : this.getFailingEntities(serverWorld, targetAABB)) {
+                for (final net.minecraft.world.entity.Entity entity : this.failingEntities) {
+                    if (!entity.getBoundingBox().intersects(targetAABB)) {
+                        continue;
+                    }
                     final Optional<net.minecraft.world.phys.Vec3> vec3d = entity.getBoundingBox().clip(vec3dstart, vec3dend);
                     if (vec3d.isPresent()) {
                         final net.minecraft.world.phys.Vec3 hitPosition = vec3d.get();
@@ -263,7 +281,7 @@ final Vector3i getNextBlock(final Vector3i current, final TData data, final Vect
         return current.add(
                 data.nextStepWillAdvanceX() ? steps.x() : 0,
                 data.nextStepWillAdvanceY() ? steps.y() : 0,
-                data.nextStepWillAdvanceZ() ? steps.x() : 0
+                data.nextStepWillAdvanceZ() ? steps.z() : 0
         );
     }
 
@@ -280,16 +298,34 @@ final AABB getBlockAABB(final Vector3i currentBlock) {
                 currentBlock.y(), currentBlock.z(), currentBlock.x() + 1, currentBlock.y() + 1, currentBlock.z() + 1);
     }
 
-    private List<net.minecraft.world.entity.Entity> getFailingEntities(final ServerWorld serverWorld, final AABB targetAABB) {
-        return ((Level) serverWorld).getEntities((net.minecraft.world.entity.Entity) null, targetAABB, (Predicate) this.continueWhileEntity.negate());
+    /**
+     * Gets a box containing every block the ray passes through.
+     */
+    final AABB getRayAABB() {
+        // One block of margin covers the initial block being offset at block boundaries
+        return new AABB(
+                Math.floor(Math.min(this.start.x(), this.end.x())) - 1,
+                Math.floor(Math.min(this.start.y(), this.end.y())) - 1,
+                Math.floor(Math.min(this.start.z(), this.end.z())) - 1,
+                Math.floor(Math.max(this.start.x(), this.end.x())) + 2,
+                Math.floor(Math.max(this.start.y(), this.end.y())) + 2,
+                Math.floor(Math.max(this.start.z(), this.end.z())) + 2
+        );
+    }
+
+    void gatherEntityCandidates(final ServerWorld serverWorld, final AABB rayAABB) {
+        if (this.continueWhileEntity != null) {
+            this.failingEntities = ((Level) serverWorld).getEntities((net.minecraft.world.entity.Entity) null, rayAABB,
+                    (Predicate) this.continueWhileEntity.negate());
+        }
     }
 
-    boolean requiresEntityTracking() {
-        return this.continueWhileEntity != null;
+    void clearEntityCandidates() {
+        this.failingEntities = null;
     }
 
-    List<net.minecraft.world.entity.Entity> selectEntities(final ServerWorld serverWorld, final AABB targetAABB) {
-        return Collections.emptyList();
+    boolean requiresEntityTracking() {
+        return this.continueWhileEntity != null;
     }
 
     abstract Optional<RayTraceResult<@NonNull T>> testSelectLocation(final ServerWorld serverWorld,
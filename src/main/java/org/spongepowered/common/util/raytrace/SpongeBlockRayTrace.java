@@ -34,6 +34,10 @@
 
 import java.util.Optional;
 import java.util.function.Predicate;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.phys.Vec3;
 
 public final class SpongeBlockRayTrace extends AbstractSpongeRayTrace<@NonNull LocatableBlock> {
@@ -52,10 +56,24 @@ public final class SpongeBlockRayTrace extends AbstractSpongeRayTrace<@NonNull L
             final Vec3 location,
             final Vec3 exitLocation) {
 
+        if (this.select == SpongeBlockRayTrace.DEFAULT_FILTER && SpongeBlockRayTrace.isAir(serverWorld, location, exitLocation)) {
+            // Most of a ray usually passes through air, which the default filter never selects,
+            // so there is no need to create the locatable block for it
+            return Optional.empty();
+        }
         final LocatableBlock initialBlock = this.getBlock(serverWorld, location, exitLocation);
         if (this.select.test(initialBlock)) {
             return Optional.of(new SpongeRayTraceResult<>(initialBlock, VecHelper.toVector3d(location)));
         }
         return Optional.empty();
     }
+
+    private static boolean isAir(final ServerWorld world, final Vec3 in, final Vec3 out) {
+        final Block block = ((Level) world).getBlockState(new BlockPos(
+                Math.min(in.x, out.x),
+                Math.min(in.y, out.y),
+                Math.min(in.z, out.z)
+        )).getBlock();
+        return block == Blocks.AIR || block == Blocks.CAVE_AIR || block == Blocks.VOID_AIR;
+    }
 }
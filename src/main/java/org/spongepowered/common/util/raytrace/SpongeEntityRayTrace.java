@@ -31,6 +31,7 @@
 import org.spongepowered.api.world.server.ServerWorld;
 import org.spongepowered.common.util.VecHelper;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -42,6 +43,9 @@ public final class SpongeEntityRayTrace extends AbstractSpongeRayTrace<@NonNull
 
     private static final Predicate<Entity> DEFAULT_FILTER = entity -> true;
 
+    // Entities matching the select filter along the whole ray, only set while executing
+    private List<net.minecraft.world.entity.Entity> selectCandidates = Collections.emptyList();
+
     public SpongeEntityRayTrace() {
         super(SpongeEntityRayTrace.DEFAULT_FILTER);
     }
@@ -52,8 +56,15 @@ boolean requiresEntityTracking() {
     }
 
     @Override
-    List<net.minecraft.world.entity.Entity> selectEntities(final ServerWorld serverWorld, final AABB targetAABB) {
-        return ((Level) serverWorld).getEntities((net.minecraft.world.entity.Entity) null, targetAABB, (Predicate) this.select);
+    void gatherEntityCandidates(final ServerWorld serverWorld, final AABB rayAABB) {
+        super.gatherEntityCandidates(serverWorld, rayAABB);
+        this.selectCandidates = ((Level) serverWorld).getEntities((net.minecraft.world.entity.Entity) null, rayAABB, (Predicate) this.select);
+    }
+
+    @Override
+    void clearEntityCandidates() {
+        super.clearEntityCandidates();
+        this.selectCandidates = Collections.emptyList();
     }
 
     @Override
@@ -61,7 +72,11 @@ List<net.minecraft.world.entity.Entity> selectEntities(final ServerWorld serverW
         double currentSqDist = Double.MAX_VALUE;
         RayTraceResult<@NonNull Entity> returnedEntity = null;
         final LocatableBlock locatableBlock = this.getBlock(serverWorld, vec3din, vec3dend);
-        for (final net.minecraft.world.entity.Entity entity : this.selectEntities(serverWorld, this.getBlockAABB(locatableBlock.blockPosition()))) {
+        final AABB targetAABB = this.getBlockAABB(locatableBlock.blockPosition());
+        for (final net.minecraft.world.entity.Entity entity : this.selectCandidates) {
+            if (!entity.getBoundingBox().intersects(targetAABB)) {
+                continue;
+            }
             final Optional<Vec3> vec3d = entity.getBoundingBox().clip(vec3din, vec3dend);
             if (vec3d.isPresent()) {
                 final Vec3 hitPosition = vec3d.get();
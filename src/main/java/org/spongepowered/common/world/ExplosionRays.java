@@ -0,0 +1,198 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerChunkCache;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.item.PrimedTnt;
+import net.minecraft.world.level.EntityBasedExplosionDamageCalculator;
+import net.minecraft.world.level.Explosion;
+import net.minecraft.world.level.ExplosionDamageCalculator;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraft.world.level.material.Fluids;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Casts the block breaking rays of an explosion on multiple threads.
+ *
+ * <p>The loaded chunks within reach of the explosion are gathered on the
+ * server thread, which then helps casting the rays and waits for all of them
+ * to finish. Nothing can modify the chunks in the meantime, so the rays only
+ * ever observe a consistent view of the world. The random ray strengths are
+ * drawn up front in the same order as Vanilla, keeping the world random in
+ * step.</p>
+ */
+public final class ExplosionRays {
+
+    private static final float STEP = 0.3F;
+    private static final float ATTENUATION = 0.22500001F;
+    private static final int MAX_TASKS = 8;
+    // Normalized ray directions on the surface of a 16x16x16 cube, in Vanilla order
+    private static final double[] DIRECTIONS;
+    private static final int RAY_COUNT;
+
+    static {
+        final double[] directions = new double[16 * 16 * 16 * 3];
+        int index = 0;
+        for (int j = 0; j < 16; ++j) {
+            for (int k = 0; k < 16; ++k) {
+                for (int l = 0; l < 16; ++l) {
+                    if (j == 0 || j == 15 || k == 0 || k == 15 || l == 0 || l == 15) {
+                        final double d0 = (double) ((float) j / 15.0F * 2.0F - 1.0F);
+                        final double d1 = (double) ((float) k / 15.0F * 2.0F - 1.0F);
+                        final double d2 = (double) ((float) l / 15.0F * 2.0F - 1.0F);
+                        final double d3 = Math.sqrt(d0 * d0 + d1 * d1 + d2 * d2);
+                        directions[index++] = d0 / d3;
+                        directions[index++] = d1 / d3;
+                        directions[index++] = d2 / d3;
+                    }
+                }
+            }
+        }
+        RAY_COUNT = index / 3;
+        DIRECTIONS = new double[index];
+        System.arraycopy(directions, 0, ExplosionRays.DIRECTIONS, 0, index);
+    }
+
+    /**
+     * Gets whether the damage calculator is known to only depend on the
+     * block and fluid passed to it, making it safe to call off the server
+     * thread.
+     *
+     * @param calculator The damage calculator of the explosion
+     * @param source The source entity of the explosion
+     * @return True if the rays can be cast in parallel
+     */
+    public static boolean canCastInParallel(final ExplosionDamageCalculator calculator, final @Nullable Entity source) {
+        final Class<?> type = calculator.getClass();
+        return type == ExplosionDamageCalculator.class
+            || (type == EntityBasedExplosionDamageCalculator.class && source != null && source.getClass() == PrimedTnt.class);
+    }
+
+    /**
+     * Casts all rays of the explosion.
+     *
+     * @return The packed positions of the blocks to blow up, or null if part
+     *     of the reach of the explosion is not loaded and the rays have to be
+     *     cast on the server thread instead
+     */
+    public static @Nullable LongSet cast(final Level level, final Explosion explosion, final ExplosionDamageCalculator calculator,
+        final double x, final double y, final double z, final float radius, final Random random) {
+        // The strongest ray loses ATTENUATION per STEP travelled
+        final double reach = Math.ceil(radius * 1.3F / ExplosionRays.ATTENUATION) * ExplosionRays.STEP + 1.0D;
+        final int minChunkX = Mth.floor(x - reach) >> 4;
+        final int maxChunkX = Mth.floor(x + reach) >> 4;
+        final int minChunkZ = Mth.floor(z - reach) >> 4;
+        final int maxChunkZ = Mth.floor(z + reach) >> 4;
+        final int width = maxChunkX - minChunkX + 1;
+        final LevelChunk[] chunks = new LevelChunk[width * (maxChunkZ - minChunkZ + 1)];
+        final ServerChunkCache chunkSource = (ServerChunkCache) level.getChunkSource();
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                final LevelChunk chunk = chunkSource.getChunkNow(chunkX, chunkZ);
+                if (chunk == null) {
+                    return null;
+                }
+                chunks[(chunkZ - minChunkZ) * width + chunkX - minChunkX] = chunk;
+            }
+        }
+
+        final float[] strengths = new float[ExplosionRays.RAY_COUNT];
+        for (int ray = 0; ray < strengths.length; ray++) {
+            strengths[ray] = radius * (0.7F + random.nextFloat() * 0.6F);
+        }
+
+        final int tasks = Math.min(ForkJoinPool.getCommonPoolParallelism() + 1, ExplosionRays.MAX_TASKS);
+        final LongSet[] results = new LongSet[tasks];
+        IntStream.range(0, tasks).parallel().forEach(task -> {
+            final LongSet positions = new LongOpenHashSet();
+            final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+            for (int ray = task; ray < ExplosionRays.RAY_COUNT; ray += tasks) {
+                ExplosionRays.castRay(level, explosion, calculator, chunks, width, minChunkX, minChunkZ, pos, x, y, z, ray,
+                    strengths[ray], positions);
+            }
+            results[task] = positions;
+        });
+
+        final LongSet positions = new LongOpenHashSet(results[0]);
+        for (int task = 1; task < tasks; task++) {
+            positions.addAll(results[task]);
+        }
+        return positions;
+    }
+
+    private static void castRay(final Level level, final Explosion explosion, final ExplosionDamageCalculator calculator,
+        final LevelChunk[] chunks, final int width, final int minChunkX, final int minChunkZ, final BlockPos.MutableBlockPos pos,
+        final double x, final double y, final double z, final int ray, float strength, final LongSet positions) {
+        final double dx = ExplosionRays.DIRECTIONS[ray * 3] * (double) ExplosionRays.STEP;
+        final double dy = ExplosionRays.DIRECTIONS[ray * 3 + 1] * (double) ExplosionRays.STEP;
+        final double dz = ExplosionRays.DIRECTIONS[ray * 3 + 2] * (double) ExplosionRays.STEP;
+        double px = x;
+        double py = y;
+        double pz = z;
+
+        for (; strength > 0.0F; strength -= ExplosionRays.ATTENUATION) {
+            pos.set(px, py, pz);
+            final BlockState state;
+            final FluidState fluid;
+            if (Level.isOutsideBuildHeight(pos.getY())) {
+                state = Blocks.VOID_AIR.defaultBlockState();
+                fluid = Fluids.EMPTY.defaultFluidState();
+            } else {
+                final LevelChunk chunk = chunks[((pos.getZ() >> 4) - minChunkZ) * width + (pos.getX() >> 4) - minChunkX];
+                state = chunk.getBlockState(pos);
+                fluid = chunk.getFluidState(pos);
+            }
+            final Optional<Float> resistance = calculator.getBlockExplosionResistance(explosion, level, pos, state, fluid);
+            if (resistance.isPresent()) {
+                strength -= (resistance.get() + 0.3F) * 0.3F;
+            }
+
+            if (strength > 0.0F && calculator.shouldBlockExplode(explosion, level, pos, state, strength)) {
+                positions.add(pos.asLong());
+            }
+
+            px += dx;
+            py += dy;
+            pz += dz;
+        }
+    }
+
+    private ExplosionRays() {
+    }
+}
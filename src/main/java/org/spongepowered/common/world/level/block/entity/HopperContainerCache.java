@@ -0,0 +1,197 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.level.block.entity;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.Container;
+import net.minecraft.world.WorldlyContainerHolder;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntitySelector;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.HopperBlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkSource;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.phys.AABB;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.bridge.optimization.HopperOptimizationBridge;
+import org.spongepowered.common.bridge.optimization.HopperOptimizationChunkBridge;
+
+import java.util.List;
+
+/**
+ * Caches the container a hopper pulls from or pushes into.
+ *
+ * <p>The block side of the lookup is remembered together with the block
+ * state it was resolved from. Any change of the neighbouring block replaces
+ * its state, so comparing the state by identity is enough to invalidate the
+ * cache. Containers provided by a {@link WorldlyContainerHolder} are created
+ * per lookup and are never cached. Container entities are looked up every
+ * time, but the search is skipped entirely when none of the chunks it would
+ * cover hold a container entity.</p>
+ *
+ * <p>Additionally the last failed transfer is remembered. As long as neither
+ * the hopper nor the container changed their contents since, the transfer
+ * is known to fail again and may be skipped. Since not every container
+ * reliably marks itself as changed, the transfer is still retried after
+ * {@link #MAX_SKIPPED_ATTEMPTS} skipped attempts.</p>
+ */
+public final class HopperContainerCache {
+
+    private static final int MAX_SKIPPED_ATTEMPTS = 8;
+
+    private @Nullable BlockPos pos;
+    private @Nullable BlockState state;
+    private @Nullable Container blockContainer;
+    private @Nullable Container lastLookup;
+
+    private @Nullable Container failedContainer;
+    private int failedContainerVersion;
+    private int failedHopperVersion;
+    private int skippedAttempts;
+
+    /**
+     * Gets the container at the given position, as
+     * {@link HopperBlockEntity#getContainerAt(Level, BlockPos)} would.
+     *
+     * @param level The level
+     * @param pos The position of the container
+     * @return The container, if any
+     */
+    public @Nullable Container lookup(final Level level, final BlockPos pos) {
+        return this.lastLookup = this.lookup0(level, pos);
+    }
+
+    private @Nullable Container lookup0(final Level level, final BlockPos pos) {
+        final BlockState state = level.getBlockState(pos);
+        if (state == this.state && pos.equals(this.pos)) {
+            final Container cached = this.blockContainer;
+            if (cached == null) {
+                return HopperContainerCache.findContainerEntity(level, pos);
+            }
+            if (!(cached instanceof BlockEntity) || !((BlockEntity) cached).isRemoved()) {
+                return cached;
+            }
+        }
+        final Container container = HopperBlockEntity.getContainerAt(level, pos);
+        if (state.getBlock() instanceof WorldlyContainerHolder) {
+            this.invalidate();
+            return container;
+        }
+        this.pos = pos.immutable();
+        this.state = state;
+        // Entities are only searched for if there is no container block
+        this.blockContainer = container instanceof Entity ? null : container;
+        return container;
+    }
+
+    public void invalidate() {
+        this.pos = null;
+        this.state = null;
+        this.blockContainer = null;
+        this.lastLookup = null;
+        this.failedContainer = null;
+    }
+
+    /**
+     * Gets whether a transfer between the hopper and the given container
+     * is known to fail, because it failed before and neither side changed.
+     *
+     * @param container The container
+     * @param hopperVersion The current content version of the hopper
+     * @return Whether the transfer can be skipped
+     */
+    public boolean isKnownToFail(final Container container, final int hopperVersion) {
+        if (container != this.failedContainer) {
+            return false;
+        }
+        if (hopperVersion != this.failedHopperVersion
+            || ((HopperOptimizationBridge) container).hopperBridge$contentVersion() != this.failedContainerVersion
+            || ++this.skippedAttempts > HopperContainerCache.MAX_SKIPPED_ATTEMPTS) {
+            this.failedContainer = null;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Records the outcome of a transfer attempt with the container
+     * returned by the last {@link #lookup(Level, BlockPos)}.
+     *
+     * @param moved Whether any item was moved
+     * @param hopperVersion The content version of the hopper after the attempt
+     */
+    public void recordLastAttempt(final boolean moved, final int hopperVersion) {
+        final Container container = this.lastLookup;
+        this.lastLookup = null;
+        if (moved || !(container instanceof HopperOptimizationBridge)) {
+            this.failedContainer = null;
+            return;
+        }
+        if (container != this.failedContainer) {
+            this.skippedAttempts = 0;
+        }
+        this.failedContainer = container;
+        this.failedContainerVersion = ((HopperOptimizationBridge) container).hopperBridge$contentVersion();
+        this.failedHopperVersion = hopperVersion;
+    }
+
+    private static @Nullable Container findContainerEntity(final Level level, final BlockPos pos) {
+        final AABB area = new AABB(pos.getX(), pos.getY(), pos.getZ(), pos.getX() + 1.0D, pos.getY() + 1.0D, pos.getZ() + 1.0D);
+        if (!HopperContainerCache.mayContainContainerEntities(level, area)) {
+            return null;
+        }
+        final List<Entity> list = level.getEntities((Entity) null, area, EntitySelector.CONTAINER_ENTITY_SELECTOR);
+        return list.isEmpty() ? null : (Container) list.get(level.random.nextInt(list.size()));
+    }
+
+    /**
+     * Gets whether any of the chunks an entity search over the given area
+     * would visit hold an entity that is a {@link Container}.
+     *
+     * @param level The level
+     * @param area The area that would be searched
+     * @return Whether a container entity may be found
+     */
+    public static boolean mayContainContainerEntities(final Level level, final AABB area) {
+        // Same chunk range as Level#getEntities
+        final int minX = Mth.floor((area.minX - 2.0D) / 16.0D);
+        final int maxX = Mth.floor((area.maxX + 2.0D) / 16.0D);
+        final int minZ = Mth.floor((area.minZ - 2.0D) / 16.0D);
+        final int maxZ = Mth.floor((area.maxZ + 2.0D) / 16.0D);
+        final ChunkSource chunkSource = level.getChunkSource();
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                final LevelChunk chunk = chunkSource.getChunkNow(x, z);
+                if (chunk != null && ((HopperOptimizationChunkBridge) chunk).hopperBridge$containerEntityCount() > 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
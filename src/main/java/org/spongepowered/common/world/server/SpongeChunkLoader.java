@@ -0,0 +1,240 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.server;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.mojang.datafixers.util.Either;
+import net.minecraft.server.level.ChunkHolder;
+import net.minecraft.server.level.DistanceManager;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.TicketType;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ChunkStatus;
+import net.minecraft.world.level.chunk.LevelChunk;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.accessor.server.level.ServerChunkCacheAccessor;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Loads chunks without blocking the calling thread.
+ *
+ * <p>Every request is backed by a ticket on the level's distance manager, so
+ * the chunk is kept alive while it is being loaded or generated rather than
+ * relying on the caller to hold onto it. Once a chunk has been handed back it
+ * is held by a short lived ticket which expires by itself, so callers never
+ * need to release anything.</p>
+ *
+ * <p>All ticket bookkeeping happens on the server thread; the returned futures
+ * complete there as well.</p>
+ */
+public final class SpongeChunkLoader {
+
+    /**
+     * How long, in ticks, a chunk handed back by {@link #loadChunk} is kept
+     * loaded before its ticket expires.
+     */
+    public static final long LOADED_TICKET_LIFETIME = 300L;
+
+    private static final int FULL_CHUNK_LEVEL = 33;
+
+    // Held for as long as the load is in progress, and removed explicitly. Keyed by a
+    // unique id per load, so concurrent loads of the same chunk never release each other's ticket.
+    private static final TicketType<Long> LOADING = new SpongeTicketType<>("sponge_chunk_loading", Long::compare, 0L);
+    // Taken out once the chunk is handed back, and left to expire.
+    private static final TicketType<ChunkPos> LOADED =
+        new SpongeTicketType<>("sponge_chunk_loaded", Comparator.comparingLong(ChunkPos::toLong), SpongeChunkLoader.LOADED_TICKET_LIFETIME);
+
+    private static final AtomicLong NEXT_LOAD_ID = new AtomicLong();
+
+    private SpongeChunkLoader() {
+    }
+
+    /**
+     * Loads the chunk at the given chunk coordinates.
+     *
+     * <p>If {@code generate} is false, only chunks that have already been
+     * fully generated are returned; anything else completes with an empty
+     * optional and nothing is generated.</p>
+     *
+     * @param level The level
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @param generate Whether missing chunks should be generated
+     * @return A future completing with the chunk, on the server thread
+     */
+    public static CompletableFuture<Optional<LevelChunk>> loadChunk(final ServerLevel level, final int x, final int z, final boolean generate) {
+        return SpongeChunkLoader.loadChunk(level, new ChunkPos(x, z), generate, true);
+    }
+
+    /**
+     * Loads every chunk within the given chunk coordinates, inclusive, keeping
+     * at most {@code parallelism} loads in flight at once.
+     *
+     * <p>Prefetched chunks are not held once loaded; they unload again under
+     * the usual rules unless something else is keeping them around. This
+     * makes the method suitable for warming up or pre-generating large
+     * regions.</p>
+     *
+     * @param level The level
+     * @param minX The minimum chunk x coordinate
+     * @param minZ The minimum chunk z coordinate
+     * @param maxX The maximum chunk x coordinate
+     * @param maxZ The maximum chunk z coordinate
+     * @param parallelism The maximum number of chunks loading at once
+     * @param generate Whether missing chunks should be generated
+     * @return A future completing with the number of chunks that were loaded
+     */
+    public static CompletableFuture<Integer> prefetch(final ServerLevel level, final int minX, final int minZ, final int maxX, final int maxZ,
+            final int parallelism, final boolean generate) {
+        checkArgument(parallelism > 0, "Parallelism must be positive");
+        checkArgument(minX <= maxX && minZ <= maxZ, "Minimum coordinates must not exceed the maximum coordinates");
+
+        final Prefetch prefetch = new Prefetch(level, minX, minZ, maxX, maxZ, generate);
+        level.getServer().execute(() -> {
+            for (int i = 0; i < parallelism; i++) {
+                prefetch.next();
+            }
+        });
+        return prefetch.result;
+    }
+
+    static CompletableFuture<Optional<LevelChunk>> loadChunk(final ServerLevel level, final ChunkPos pos, final boolean generate,
+            final boolean hold) {
+        final Executor mainThread = level.getServer();
+        final ChunkStatus status = generate ? ChunkStatus.FULL : ChunkStatus.EMPTY;
+        final long loadId = SpongeChunkLoader.NEXT_LOAD_ID.getAndIncrement();
+        return CompletableFuture.supplyAsync(() -> SpongeChunkLoader.request(level, pos, status, loadId), mainThread)
+            .thenCompose(Function.identity())
+            .thenComposeAsync(result -> {
+                final @Nullable ChunkAccess chunk = result.left().orElse(null);
+                // Without generation we only read the chunk from disk, and promote it if it was already complete.
+                if (generate || chunk == null || !chunk.getStatus().isOrAfter(ChunkStatus.FULL)) {
+                    return CompletableFuture.completedFuture(result);
+                }
+                return SpongeChunkLoader.request(level, pos, ChunkStatus.FULL, loadId);
+            }, mainThread)
+            .handleAsync((result, throwable) -> {
+                final Optional<LevelChunk> chunk = throwable != null ? Optional.empty() : result.left()
+                    .filter(LevelChunk.class::isInstance)
+                    .map(LevelChunk.class::cast);
+                // Take out the expiring ticket before letting go of the loading one, so the chunk can't unload in between.
+                if (hold && chunk.isPresent()) {
+                    level.getChunkSource().addRegionTicket(SpongeChunkLoader.LOADED, pos, 0, pos);
+                }
+                SpongeChunkLoader.release(level, pos, status, loadId);
+                if (!generate) {
+                    SpongeChunkLoader.release(level, pos, ChunkStatus.FULL, loadId);
+                }
+                if (throwable != null) {
+                    throw new CompletionException(throwable);
+                }
+                return chunk;
+            }, mainThread);
+    }
+
+    private static CompletableFuture<Either<ChunkAccess, ChunkHolder.ChunkLoadingFailure>> request(final ServerLevel level, final ChunkPos pos,
+            final ChunkStatus status, final long loadId) {
+        SpongeChunkLoader.distanceManager(level).addTicket(SpongeChunkLoader.LOADING, pos, SpongeChunkLoader.ticketLevel(status), loadId);
+        return level.getChunkSource().getChunkFuture(pos.x, pos.z, status, true);
+    }
+
+    private static void release(final ServerLevel level, final ChunkPos pos, final ChunkStatus status, final long loadId) {
+        SpongeChunkLoader.distanceManager(level).removeTicket(SpongeChunkLoader.LOADING, pos, SpongeChunkLoader.ticketLevel(status), loadId);
+    }
+
+    private static int ticketLevel(final ChunkStatus status) {
+        return SpongeChunkLoader.FULL_CHUNK_LEVEL + ChunkStatus.getDistance(status);
+    }
+
+    private static DistanceManager distanceManager(final ServerLevel level) {
+        return ((ServerChunkCacheAccessor) level.getChunkSource()).accessor$distanceManager();
+    }
+
+    // Only ever touched from the server thread.
+    private static final class Prefetch {
+
+        final CompletableFuture<Integer> result = new CompletableFuture<>();
+        private final ServerLevel level;
+        private final int minX;
+        private final int maxX;
+        private final int maxZ;
+        private final boolean generate;
+        private int nextX;
+        private int nextZ;
+        private int inFlight;
+        private int loaded;
+
+        Prefetch(final ServerLevel level, final int minX, final int minZ, final int maxX, final int maxZ, final boolean generate) {
+            this.level = level;
+            this.minX = minX;
+            this.maxX = maxX;
+            this.maxZ = maxZ;
+            this.generate = generate;
+            this.nextX = minX;
+            this.nextZ = minZ;
+        }
+
+        void next() {
+            if (this.result.isDone()) {
+                return;
+            }
+            if (this.nextZ > this.maxZ) {
+                if (this.inFlight == 0) {
+                    this.result.complete(this.loaded);
+                }
+                return;
+            }
+
+            final ChunkPos pos = new ChunkPos(this.nextX, this.nextZ);
+            if (++this.nextX > this.maxX) {
+                this.nextX = this.minX;
+                this.nextZ++;
+            }
+
+            this.inFlight++;
+            SpongeChunkLoader.loadChunk(this.level, pos, this.generate, false).whenComplete((chunk, throwable) -> {
+                this.inFlight--;
+                if (throwable != null) {
+                    this.result.completeExceptionally(throwable);
+                    return;
+                }
+                if (chunk.isPresent()) {
+                    this.loaded++;
+                }
+                this.next();
+            });
+        }
+    }
+
+}
@@ -96,6 +96,9 @@
 import org.spongepowered.common.accessor.world.gen.DimensionGeneratorSettingsAccessor;
 import org.spongepowered.common.accessor.world.level.storage.LevelStorageSource_LevelStorageAccessAccessor;
 import org.spongepowered.common.accessor.world.level.storage.PrimaryLevelDataAccessor;
+import org.spongepowered.common.applaunch.config.common.PregenCategory;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.block.entity.BlockEntityActivation;
 import org.spongepowered.common.bridge.ResourceKeyBridge;
 import org.spongepowered.common.bridge.server.level.ServerLevelBridge;
 import org.spongepowered.common.bridge.world.level.dimension.LevelStemBridge;
@@ -128,6 +131,7 @@
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -145,6 +149,7 @@ public abstract class SpongeWorldManager implements WorldManager {
     private final MinecraftServer server;
     private final Path dimensionsDataPackDirectory, defaultWorldDirectory, customWorldsDirectory;
     private final Map<net.minecraft.resources.ResourceKey<Level>, ServerLevel> worlds;
+    private final Map<net.minecraft.resources.ResourceKey<Level>, SpongeWorldPregenerator> pregenerators = new LinkedHashMap<>();
 
     private static final TicketType<ResourceLocation> SPAWN_CHUNKS = TicketType.create("spawn_chunks", (i, o) -> i.compareTo(o));
 
@@ -893,6 +898,12 @@ private void unloadWorld0(final ServerLevel world) throws IOException {
         final BlockPos spawnPoint = world.getSharedSpawnPos();
         world.getChunkSource().removeRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, new ChunkPos(spawnPoint), 11, registryKey.location());
 
+        final SpongeWorldPregenerator pregenerator = this.pregenerators.remove(registryKey);
+        if (pregenerator != null) {
+            pregenerator.saveProgress();
+        }
+        BlockEntityActivation.clear(world);
+
         ((PrimaryLevelDataBridge) world.getLevelData()).bridge$configAdapter().save();
         ((ServerLevelBridge) world).bridge$setManualSave(true);
 
@@ -1094,9 +1105,65 @@ private ServerLevel prepareWorld(final ServerLevel world, final boolean isDebugG
             ((ServerLevelBridge) world).bridge$getBossBarManager().load(levelData.getCustomBossEvents());
         }
 
+        SpongeWorldPregenerator.load(world, this.getPregenerationProgressFile(world)).ifPresent(pregenerator -> {
+            SpongeCommon.logger().info("Resuming pre-generation of world '{}' at {}/{} chunks", world.dimension().location(),
+                pregenerator.completed(), pregenerator.total());
+            this.pregenerators.put(world.dimension(), pregenerator);
+        });
+
         return world;
     }
 
+    public Optional<SpongeWorldPregenerator> pregenerator(final ServerLevel world) {
+        return Optional.ofNullable(this.pregenerators.get(world.dimension()));
+    }
+
+    public SpongeWorldPregenerator startPregeneration(final ServerLevel world, final int centerX, final int centerZ, final int radius) {
+        if (radius < 0) {
+            throw new IllegalArgumentException("Radius cannot be negative!");
+        }
+        if (this.pregenerators.containsKey(world.dimension())) {
+            throw new IllegalStateException(String.format("World '%s' is already being pre-generated!", world.dimension().location()));
+        }
+        final SpongeWorldPregenerator pregenerator = new SpongeWorldPregenerator(world, this.getPregenerationProgressFile(world), centerX,
+            centerZ, radius, 0, false);
+        pregenerator.saveProgress();
+        this.pregenerators.put(world.dimension(), pregenerator);
+        return pregenerator;
+    }
+
+    public boolean cancelPregeneration(final ServerLevel world) {
+        final SpongeWorldPregenerator pregenerator = this.pregenerators.remove(world.dimension());
+        if (pregenerator == null) {
+            return false;
+        }
+        pregenerator.cancel();
+        return true;
+    }
+
+    public void tickPregeneration() {
+        if (this.pregenerators.isEmpty()) {
+            return;
+        }
+        final PregenCategory config = SpongeConfigs.getCommon().get().pregen;
+        for (final SpongeWorldPregenerator pregenerator : new ArrayList<>(this.pregenerators.values())) {
+            pregenerator.tick(config);
+        }
+        this.pregenerators.values().removeIf(SpongeWorldPregenerator::isDone);
+    }
+
+    public void savePregenerationProgress() {
+        this.pregenerators.values().forEach(SpongeWorldPregenerator::saveProgress);
+    }
+
+    private Path getPregenerationProgressFile(final ServerLevel world) {
+        final ResourceKey key = (ResourceKey) (Object) world.dimension().location();
+        return this.worldDirectory(key)
+            .orElseThrow(() -> new IllegalStateException(String.format("World '%s' has no directory!", key)))
+            .resolve("data")
+            .resolve("sponge_pregen.dat");
+    }
+
     private CompletableFuture<ServerLevel> postWorldLoad(final ServerLevel world, final boolean blocking) {
         final PrimaryLevelData levelData = (PrimaryLevelData) world.getLevelData();
         final PrimaryLevelDataBridge levelBridge = (PrimaryLevelDataBridge) levelData;
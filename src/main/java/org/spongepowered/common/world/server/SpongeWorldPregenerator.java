@@ -0,0 +1,302 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.server;
+
+import it.unimi.dsi.fastutil.longs.LongAVLTreeSet;
+import it.unimi.dsi.fastutil.longs.LongSortedSet;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.ChunkPos;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.common.PregenCategory;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates every chunk within a square radius around a center chunk,
+ * working outwards in a spiral.
+ *
+ * <p>Chunks are requested through {@link SpongeChunkLoader}, so every chunk
+ * in flight is held by a ticket until it has been generated, after which it
+ * is free to unload again. Progress is saved to the world's data directory so
+ * that an interrupted pre-generation picks up where it left off once the
+ * world is loaded again.</p>
+ *
+ * <p>Instances are owned by the {@link SpongeWorldManager} and are only ever
+ * touched from the server thread.</p>
+ */
+public final class SpongeWorldPregenerator {
+
+    private static final long RATE_SAMPLE_INTERVAL = TimeUnit.SECONDS.toNanos(5);
+
+    private final ServerLevel level;
+    private final Path progressFile;
+    private final int centerX;
+    private final int centerZ;
+    private final int radius;
+    private final long total;
+    private final Spiral cursor;
+    // The spiral indices currently loading, the lowest of which is where we resume from
+    private final LongSortedSet inFlight = new LongAVLTreeSet();
+    private long completed;
+    private boolean paused;
+    private boolean cancelled;
+
+    private long rateSampleTime = System.nanoTime();
+    private long rateSampleCompleted;
+    private double chunksPerSecond;
+    private long lastReport = System.nanoTime();
+
+    SpongeWorldPregenerator(final ServerLevel level, final Path progressFile, final int centerX, final int centerZ, final int radius,
+            final long start, final boolean paused) {
+        this.level = level;
+        this.progressFile = progressFile;
+        this.centerX = centerX;
+        this.centerZ = centerZ;
+        this.radius = radius;
+        final long diameter = 2L * radius + 1;
+        this.total = diameter * diameter;
+        this.cursor = new Spiral(centerX, centerZ);
+        this.cursor.skip(start);
+        this.completed = start;
+        this.rateSampleCompleted = start;
+        this.paused = paused;
+    }
+
+    static Optional<SpongeWorldPregenerator> load(final ServerLevel level, final Path progressFile) {
+        if (Files.notExists(progressFile)) {
+            return Optional.empty();
+        }
+        final CompoundTag compound;
+        try (final InputStream stream = Files.newInputStream(progressFile)) {
+            compound = NbtIo.readCompressed(stream);
+        } catch (final Exception e) {
+            SpongeCommon.logger().error("Failed to read pre-generation progress of world '{}' from {}", level.dimension().location(),
+                progressFile, e);
+            return Optional.empty();
+        }
+        return Optional.of(new SpongeWorldPregenerator(level, progressFile, compound.getInt("CenterX"), compound.getInt("CenterZ"),
+            compound.getInt("Radius"), compound.getLong("Index"), compound.getBoolean("Paused")));
+    }
+
+    public ServerLevel level() {
+        return this.level;
+    }
+
+    public int centerX() {
+        return this.centerX;
+    }
+
+    public int centerZ() {
+        return this.centerZ;
+    }
+
+    public int radius() {
+        return this.radius;
+    }
+
+    public long total() {
+        return this.total;
+    }
+
+    public long completed() {
+        return this.completed;
+    }
+
+    public int inFlight() {
+        return this.inFlight.size();
+    }
+
+    public double chunksPerSecond() {
+        return this.chunksPerSecond;
+    }
+
+    public boolean isPaused() {
+        return this.paused;
+    }
+
+    public boolean isDone() {
+        return this.cancelled || (this.cursor.index >= this.total && this.inFlight.isEmpty());
+    }
+
+    public void pause() {
+        this.paused = true;
+        this.saveProgress();
+    }
+
+    public void resume() {
+        this.paused = false;
+        this.rateSampleTime = System.nanoTime();
+        this.rateSampleCompleted = this.completed;
+        this.saveProgress();
+    }
+
+    void cancel() {
+        this.cancelled = true;
+        this.deleteProgress();
+    }
+
+    void tick(final PregenCategory config) {
+        if (this.isDone()) {
+            return;
+        }
+
+        // Stop topping up the window while the server is struggling, the chunks already in flight will still finish.
+        final double averageTickTime = Mth.average(this.level.getServer().tickTimes) * 1.0E-6D;
+        if (!this.paused && averageTickTime <= config.maxTickTime) {
+            while (this.inFlight.size() < config.maxInFlight && this.cursor.index < this.total) {
+                this.submit();
+            }
+        }
+
+        final long now = System.nanoTime();
+        if (now - this.rateSampleTime >= SpongeWorldPregenerator.RATE_SAMPLE_INTERVAL) {
+            this.chunksPerSecond = (this.completed - this.rateSampleCompleted) / ((now - this.rateSampleTime) * 1.0E-9D);
+            this.rateSampleTime = now;
+            this.rateSampleCompleted = this.completed;
+        }
+
+        if (this.isDone()) {
+            SpongeCommon.logger().info("Pre-generation of world '{}' complete, {} chunks generated", this.level.dimension().location(),
+                this.total);
+            this.deleteProgress();
+        } else if (config.reportInterval > 0 && now - this.lastReport >= TimeUnit.SECONDS.toNanos(config.reportInterval)) {
+            this.lastReport = now;
+            if (!this.paused) {
+                SpongeCommon.logger().info("Pre-generating world '{}': {}/{} chunks ({}%), {} chunks/s", this.level.dimension().location(),
+                    this.completed, this.total, String.format("%.2f", this.completed * 100.0D / this.total),
+                    String.format("%.1f", this.chunksPerSecond));
+            }
+            this.saveProgress();
+        }
+    }
+
+    private void submit() {
+        final long index = this.cursor.index;
+        final ChunkPos pos = this.cursor.next();
+        this.inFlight.add(index);
+        SpongeChunkLoader.loadChunk(this.level, pos, true, false).whenComplete((chunk, throwable) -> {
+            this.inFlight.remove(index);
+            if (throwable != null) {
+                SpongeCommon.logger().error("Failed to generate chunk {} in world '{}', pausing pre-generation", pos,
+                    this.level.dimension().location(), throwable);
+                this.pause();
+                return;
+            }
+            this.completed++;
+        });
+    }
+
+    void saveProgress() {
+        if (this.isDone()) {
+            return;
+        }
+        final CompoundTag compound = new CompoundTag();
+        compound.putInt("CenterX", this.centerX);
+        compound.putInt("CenterZ", this.centerZ);
+        compound.putInt("Radius", this.radius);
+        // Anything after the lowest chunk in flight may not have been generated yet, so resume from there.
+        compound.putLong("Index", this.inFlight.isEmpty() ? this.cursor.index : this.inFlight.firstLong());
+        compound.putBoolean("Paused", this.paused);
+        try {
+            Files.createDirectories(this.progressFile.getParent());
+            final Path tempFile = this.progressFile.resolveSibling(this.progressFile.getFileName() + ".tmp");
+            try (final OutputStream stream = Files.newOutputStream(tempFile, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                NbtIo.writeCompressed(compound, stream);
+            }
+            Files.move(tempFile, this.progressFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (final Exception e) {
+            SpongeCommon.logger().error("Failed to save pre-generation progress of world '{}'", this.level.dimension().location(), e);
+        }
+    }
+
+    private void deleteProgress() {
+        try {
+            Files.deleteIfExists(this.progressFile);
+        } catch (final Exception e) {
+            SpongeCommon.logger().error("Failed to delete pre-generation progress of world '{}'", this.level.dimension().location(), e);
+        }
+    }
+
+    /**
+     * Walks a square spiral outwards from its center, one chunk at a time. The
+     * first (2r + 1)^2 chunks visited are exactly those within radius r.
+     */
+    static final class Spiral {
+
+        private final int centerX;
+        private final int centerZ;
+        long index;
+        private int x;
+        private int z;
+        private int dx = 1;
+        private int dz;
+        private int legLength = 1;
+        private int legProgress;
+
+        Spiral(final int centerX, final int centerZ) {
+            this.centerX = centerX;
+            this.centerZ = centerZ;
+        }
+
+        ChunkPos next() {
+            final ChunkPos pos = new ChunkPos(this.centerX + this.x, this.centerZ + this.z);
+            this.advance();
+            return pos;
+        }
+
+        void skip(final long count) {
+            for (long i = 0; i < count; i++) {
+                this.advance();
+            }
+        }
+
+        private void advance() {
+            this.index++;
+            this.x += this.dx;
+            this.z += this.dz;
+            if (++this.legProgress == this.legLength) {
+                this.legProgress = 0;
+                final int turn = this.dx;
+                this.dx = -this.dz;
+                this.dz = turn;
+                // Every second turn the legs get one chunk longer
+                if (this.dz == 0) {
+                    this.legLength++;
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.hash.Funnels;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.Tag;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Digests serialized chunk data so that saves of chunks whose data did not
+ * change can skip compressing and writing the region file entry.
+ */
+public final class ChunkDataDigest {
+
+    // Changes on every save without affecting the chunk itself
+    private static final String LAST_UPDATE = "LastUpdate";
+
+    public static HashCode digest(final CompoundTag chunkTag) {
+        final CompoundTag level = chunkTag.getCompound("Level");
+        final Tag lastUpdate = level.get(ChunkDataDigest.LAST_UPDATE);
+        if (lastUpdate != null) {
+            level.remove(ChunkDataDigest.LAST_UPDATE);
+        }
+        final Hasher hasher = Hashing.murmur3_128().newHasher();
+        try (final DataOutputStream out = new DataOutputStream(Funnels.asOutputStream(hasher))) {
+            NbtIo.write(chunkTag, out);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (lastUpdate != null) {
+                level.put(ChunkDataDigest.LAST_UPDATE, lastUpdate);
+            }
+        }
+        return hasher.hash();
+    }
+
+    private ChunkDataDigest() {
+    }
+}
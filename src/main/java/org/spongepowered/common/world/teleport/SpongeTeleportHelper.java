@@ -26,12 +26,15 @@
 
 import com.google.common.collect.Sets;
 import com.google.inject.Singleton;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.border.WorldBorder;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.util.Tristate;
 import org.spongepowered.api.world.server.ServerLocation;
-import org.spongepowered.api.world.teleport.TeleportHelper;
-import org.spongepowered.api.world.World;
 import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.api.world.teleport.TeleportHelper;
 import org.spongepowered.api.world.teleport.TeleportHelperFilter;
 import org.spongepowered.api.world.teleport.TeleportHelperFilters;
 import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
@@ -39,19 +42,29 @@
 import org.spongepowered.math.vector.Vector3i;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Stream;
-import net.minecraft.world.level.border.WorldBorder;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Singleton
 public final class SpongeTeleportHelper implements TeleportHelper {
 
+    // Boxes larger than this are searched fine, but their order is not kept around
+    private static final int MAX_CACHED_ORDER_SIZE = 64 * 1024;
+    // The search order keeps the index of every offset in the lower 24 bits of its sort key
+    private static final int MAX_SEARCH_SIZE = 1 << 24;
+
+    private static final byte COMPUTED = 1;
+    private static final byte SAFE_FLOOR = 2;
+    private static final byte SAFE_BODY = 4;
+
+    // (height << 32 | width) -> packed offsets, see #searchOrder
+    private final Map<Long, int[]> searchOrders = new ConcurrentHashMap<>();
+
     @Override
     public Optional<ServerLocation> findSafeLocation(ServerLocation location, int height, int width, int distanceToDrop,
             TeleportHelperFilter filter, TeleportHelperFilter... additionalFilters) {
@@ -64,68 +77,157 @@ public Optional<ServerLocation> findSafeLocation(ServerLocation location, int he
             filters.add(TeleportHelperFilters.CONFIG.get());
         }
 
-        // Get the vectors to check, and get the block types with them.
-        // The vectors should be sorted by distance from the centre of the checking region, so
-        // this makes it easier to try to get close, because we can just iterate and get progressively further out.
-        Optional<Vector3i> result = this.getSafeLocation(world, this.getBlockLocations(location, height, width), distanceToDrop, filters);
+        final Optional<Vector3i> result = new Search(world, location.blockPosition(), height, width, distanceToDrop, filters).run();
         return result.map(vector3i -> ServerLocation.of(world, vector3i.toDouble().add(0.5, 0, 0.5)));
     }
 
-    private Stream<Vector3i> getBlockLocations(ServerLocation worldLocation, int height, int width) {
-        // We don't want to warp outside of the world border, so we want to check that we're within it.
-        final WorldBorder.Settings worldBorder = (WorldBorder.Settings) worldLocation.world().properties().worldBorder();
-        final double radius = worldBorder.getSize() / 2.0D;
-        int worldBorderMinX = GenericMath.floor(worldBorder.getCenterX() - radius);
-        int worldBorderMinZ = GenericMath.floor(worldBorder.getCenterZ() - radius);
-        int worldBorderMaxX = GenericMath.floor(worldBorder.getCenterX() + radius);
-        int worldBorderMaxZ = GenericMath.floor(worldBorder.getCenterZ() + radius);
-
-        // Get the World and get the maximum Y value.
-        int worldMaxY = worldLocation.world().max().y();
-
-        Vector3i vectorLocation = worldLocation.blockPosition();
-
-        // We use clamp to remain within the world confines, so we don't waste time checking blocks outside of the
-        // world border and the world height.
-        int minY = GenericMath.clamp(vectorLocation.y() - height, 0, worldMaxY);
-        int maxY = GenericMath.clamp(vectorLocation.y() + height, 0, worldMaxY);
-
-        int minX = GenericMath.clamp(vectorLocation.x() - width, worldBorderMinX, worldBorderMaxX);
-        int maxX = GenericMath.clamp(vectorLocation.x() + width, worldBorderMinX, worldBorderMaxX);
-
-        int minZ = GenericMath.clamp(vectorLocation.z() - width, worldBorderMinZ, worldBorderMaxZ);
-        int maxZ = GenericMath.clamp(vectorLocation.z() + width, worldBorderMinZ, worldBorderMaxZ);
-
-        // We now iterate over all possible x, y and z positions to get all possible vectors.
-        List<Vector3i> vectors = new ArrayList<>();
-        for (int y = minY; y <= maxY; y++) {
-            for (int x = minX; x <= maxX; x++) {
-                for (int z = minZ; z <= maxZ; z++) {
-                    vectors.add(new Vector3i(x, y, z));
+    /**
+     * Gets the offsets of a search box, packed as consecutive dx, dy, dz
+     * triples and sorted the way the box should be searched.
+     *
+     * <p>The order only depends on the box dimensions, so it is computed
+     * once and shared by all searches with the same dimensions. Offsets
+     * are sorted by distance from the centre of the box, so iterating them
+     * gets progressively further out. Changes in Y are preferred over X and
+     * Z, and higher over lower locations.</p>
+     */
+    private int[] searchOrder(final int height, final int width) {
+        final long key = ((long) height << 32) | (width & 0xFFFFFFFFL);
+        final int[] cached = this.searchOrders.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final long sizeXZ = 2L * width + 1;
+        final long total = (2L * height + 1) * sizeXZ * sizeXZ;
+        if (total > SpongeTeleportHelper.MAX_SEARCH_SIZE) {
+            throw new IllegalArgumentException(String.format("The search box of height %d and width %d is too large", height, width));
+        }
+        final int count = (int) total;
+        final long[] sortKeys = new long[count];
+        int i = 0;
+        for (int dy = -height; dy <= height; dy++) {
+            for (int dx = -width; dx <= width; dx++) {
+                for (int dz = -width; dz <= width; dz++) {
+                    final long distanceSquared = (long) dx * dx + (long) dy * dy + (long) dz * dz;
+                    // distance ascending, then |dy| descending, then dy descending, then insertion order
+                    final long tieBreak = ((long) (height - Math.abs(dy)) << 1) | (dy >= 0 ? 0 : 1);
+                    sortKeys[i] = (distanceSquared << 40) | (tieBreak << 24) | i;
+                    i++;
                 }
             }
         }
-
-        Comparator<Vector3i> c = Comparator.comparingInt(vectorLocation::distanceSquared);
-
-        // The compiler seems to need this to be a new line.
-        // We check to see what the y location is, preferring changes in Y over X and Z, and higher over lower locations.
-        c = c.thenComparing(x -> -Math.abs(vectorLocation.y() - x.y())).thenComparing(x -> -x.y());
-
-        // Sort them according to the distance to the provided worldLocation.
-        return vectors.stream().sorted(c);
+        Arrays.sort(sortKeys);
+
+        final int[] order = new int[count * 3];
+        for (int j = 0; j < count; j++) {
+            final int index = (int) (sortKeys[j] & 0xFFFFFF);
+            final int dz = (int) (index % sizeXZ) - width;
+            final int dx = (int) ((index / sizeXZ) % sizeXZ) - width;
+            final int dy = (int) (index / (sizeXZ * sizeXZ)) - height;
+            order[j * 3] = dx;
+            order[j * 3 + 1] = dy;
+            order[j * 3 + 2] = dz;
+        }
+        if (count <= SpongeTeleportHelper.MAX_CACHED_ORDER_SIZE) {
+            this.searchOrders.put(key, order);
+        }
+        return order;
     }
 
-    private Optional<Vector3i> getSafeLocation(ServerWorld world, Stream<Vector3i> positionsToCheck, int floorDistanceCheck,
-            Collection<TeleportHelperFilter> filters) {
-        // We cache the various block lookup results so we don't check a block twice.
-        final Map<Vector3i, BlockData> blockCache = new HashMap<>();
+    /**
+     * A single safe location search. Block states are read straight from
+     * the chunks, each chunk being looked up once, and the safety of every
+     * block is cached in a flat array over the searched box.
+     */
+    private final class Search {
+
+        private final ServerWorld world;
+        private final ServerLevel level;
+        private final Vector3i centre;
+        private final int height;
+        private final int width;
+        private final int floorDistanceCheck;
+        private final Collection<TeleportHelperFilter> filters;
+
+        private final int minX, maxX, minY, maxY, minZ, maxZ;
+        // The block cache also covers the block above and the floor below the box
+        private final int cacheMinY;
+        private final int sizeX, sizeY, sizeZ;
+        private final byte[] blockCache;
+
+        private final int chunkMinX, chunkMinZ, chunksX;
+        private final ChunkAccess[] chunks;
+        private final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+
+        Search(final ServerWorld world, final Vector3i centre, final int height, final int width, final int floorDistanceCheck,
+                final Collection<TeleportHelperFilter> filters) {
+            this.world = world;
+            this.level = (ServerLevel) world;
+            this.centre = centre;
+            this.height = height;
+            this.width = width;
+            this.floorDistanceCheck = floorDistanceCheck;
+            this.filters = filters;
+
+            // We don't want to warp outside of the world border, so we want to check that we're within it.
+            final WorldBorder.Settings worldBorder = (WorldBorder.Settings) world.properties().worldBorder();
+            final double radius = worldBorder.getSize() / 2.0D;
+            final int worldBorderMinX = GenericMath.floor(worldBorder.getCenterX() - radius);
+            final int worldBorderMinZ = GenericMath.floor(worldBorder.getCenterZ() - radius);
+            final int worldBorderMaxX = GenericMath.floor(worldBorder.getCenterX() + radius);
+            final int worldBorderMaxZ = GenericMath.floor(worldBorder.getCenterZ() + radius);
+
+            final int worldMaxY = world.max().y();
+
+            // We use clamp to remain within the world confines, so we don't waste time checking blocks outside of the
+            // world border and the world height.
+            this.minY = GenericMath.clamp(centre.y() - height, 0, worldMaxY);
+            this.maxY = GenericMath.clamp(centre.y() + height, 0, worldMaxY);
+            this.minX = GenericMath.clamp(centre.x() - width, worldBorderMinX, worldBorderMaxX);
+            this.maxX = GenericMath.clamp(centre.x() + width, worldBorderMinX, worldBorderMaxX);
+            this.minZ = GenericMath.clamp(centre.z() - width, worldBorderMinZ, worldBorderMaxZ);
+            this.maxZ = GenericMath.clamp(centre.z() + width, worldBorderMinZ, worldBorderMaxZ);
+
+            this.cacheMinY = Math.max(0, this.minY - Math.max(floorDistanceCheck, 0));
+            this.sizeX = Math.max(0, this.maxX - this.minX + 1);
+            this.sizeY = this.maxY + 1 - this.cacheMinY + 1;
+            this.sizeZ = Math.max(0, this.maxZ - this.minZ + 1);
+            this.blockCache = new byte[this.sizeX * this.sizeY * this.sizeZ];
+
+            this.chunkMinX = this.minX >> 4;
+            this.chunkMinZ = this.minZ >> 4;
+            this.chunksX = (this.maxX >> 4) - this.chunkMinX + 1;
+            this.chunks = new ChunkAccess[Math.max(0, this.chunksX * ((this.maxZ >> 4) - this.chunkMinZ + 1))];
+        }
 
-        return positionsToCheck.filter(currentTarget -> {
-            List<TeleportHelperFilter> undefinedResults = new ArrayList<>();
-            for (TeleportHelperFilter filter : filters) {
+        Optional<Vector3i> run() {
+            if (this.blockCache.length == 0) {
+                return Optional.empty();
+            }
+            // Rows outside of the world are never searched
+            final int[] order = SpongeTeleportHelper.this.searchOrder(Math.min(this.height, this.world.max().y()), this.width);
+            final List<TeleportHelperFilter> undefinedResults = new ArrayList<>();
+            for (int i = 0; i < order.length; i += 3) {
+                final int x = this.centre.x() + order[i];
+                final int y = this.centre.y() + order[i + 1];
+                final int z = this.centre.z() + order[i + 2];
+                if (x < this.minX || x > this.maxX || y < this.minY || y > this.maxY || z < this.minZ || z > this.maxZ) {
+                    continue;
+                }
+                final Vector3i currentTarget = new Vector3i(x, y, z);
+                if (this.isSafe(currentTarget, undefinedResults)) {
+                    return Optional.of(currentTarget);
+                }
+            }
+            return Optional.empty();
+        }
+
+        private boolean isSafe(final Vector3i currentTarget, final List<TeleportHelperFilter> undefinedResults) {
+            undefinedResults.clear();
+            for (final TeleportHelperFilter filter : this.filters) {
                 // If any return Tristate.FALSE, we're not safe.
-                Tristate isValid = filter.isValidLocation(world, currentTarget);
+                final Tristate isValid = filter.isValidLocation(this.world, currentTarget);
                 if (isValid == Tristate.FALSE) {
                     // Completely fails the AND check at this point.
                     return false;
@@ -141,76 +243,70 @@ private Optional<Vector3i> getSafeLocation(ServerWorld world, Stream<Vector3i> p
                 return true;
             }
 
-            // Get the block, add it to the cache.
-            BlockData block = this.getBlockData(currentTarget, world, blockCache, undefinedResults);
+            final int x = currentTarget.x();
+            final int y = currentTarget.y();
+            final int z = currentTarget.z();
 
             // If the block isn't safe, no point in continuing on this run.
-            if (block.isSafeBody) {
+            // Check the block ABOVE is safe for the body, and the ones BELOW are safe too.
+            return (this.blockData(x, y, z, undefinedResults) & SpongeTeleportHelper.SAFE_BODY) != 0
+                && (this.blockData(x, y + 1, z, undefinedResults) & SpongeTeleportHelper.SAFE_BODY) != 0
+                && (this.floorDistanceCheck <= 0 || this.isFloorSafe(x, y, z, undefinedResults));
+        }
 
-                // Check the block ABOVE is safe for the body, and the two BELOW are safe too.
-                if (this.getBlockData(
-                    currentTarget.add(0, 1, 0), world, blockCache, undefinedResults).isSafeBody
-                        && (floorDistanceCheck <= 0 || this.isFloorSafe(currentTarget, world, blockCache, undefinedResults, floorDistanceCheck))) {
+        private boolean isFloorSafe(final int x, final int y, final int z, final Collection<TeleportHelperFilter> filters) {
+            for (int i = 1; i < this.floorDistanceCheck; ++i) {
+                final byte data = this.blockData(x, y - i, z, filters);
 
-                    // This position should be safe. Get the center of the block to spawn into.
+                // If it's a safe floor, we can just say yes now.
+                if ((data & SpongeTeleportHelper.SAFE_FLOOR) != 0) {
                     return true;
                 }
-            }
-
-            return false;
-        }).findFirst();
-    }
 
-    private boolean isFloorSafe(Vector3i currentTarget, World world, Map<Vector3i, BlockData> blockCache, Collection<TeleportHelperFilter> filters,
-            int floorDistanceCheck) {
-        for (int i = 1; i < floorDistanceCheck; ++i) {
-            BlockData data = this.getBlockData(currentTarget.sub(0, i, 0), world, blockCache, filters);
-
-            // If it's a safe floor, we can just say yes now.
-            if (data.isSafeFloor) {
-                return true;
-            }
-
-            // If it's not safe for the body, then we don't want to go through it anyway.
-            if (!data.isSafeBody) {
-                return false;
+                // If it's not safe for the body, then we don't want to go through it anyway.
+                if ((data & SpongeTeleportHelper.SAFE_BODY) == 0) {
+                    return false;
+                }
             }
-        }
-
-        // Check the next block down, if it's a floor, then we're good to go, otherwise we'd fall too far for our liking.
-        return this.getBlockData(currentTarget.sub(0, floorDistanceCheck, 0), world, blockCache, filters).isSafeFloor;
-    }
-
-    private BlockData getBlockData(Vector3i vector3i, World world, Map<Vector3i, BlockData> cache, Collection<TeleportHelperFilter> filters) {
-        if (vector3i.y() < 0) {
-            // Anything below this isn't safe, no point going further.
-            return new BlockData();
-        }
 
-        if (cache.containsKey(vector3i)) {
-            return cache.get(vector3i);
+            // Check the next block down, if it's a floor, then we're good to go, otherwise we'd fall too far for our liking.
+            return (this.blockData(x, y - this.floorDistanceCheck, z, filters) & SpongeTeleportHelper.SAFE_FLOOR) != 0;
         }
 
-        BlockData data = new BlockData(world.block(vector3i), filters);
-        cache.put(vector3i, data);
-        return data;
-    }
-
-    private class BlockData {
+        private byte blockData(final int x, final int y, final int z, final Collection<TeleportHelperFilter> filters) {
+            if (y < 0) {
+                // Anything below this isn't safe, no point going further.
+                return SpongeTeleportHelper.COMPUTED;
+            }
 
-        private final boolean isSafeFloor;
-        private final boolean isSafeBody;
+            // We cache the block lookup results so we don't check a block twice.
+            final int index = ((x - this.minX) * this.sizeZ + (z - this.minZ)) * this.sizeY + (y - this.cacheMinY);
+            byte data = this.blockCache[index];
+            if (data != 0) {
+                return data;
+            }
 
-        private BlockData() {
-            this.isSafeFloor = false;
-            this.isSafeBody = false;
+            final BlockState blockState = (BlockState) this.chunk(x, z).getBlockState(this.pos.set(x, y, z));
+            data = SpongeTeleportHelper.COMPUTED;
+            if (filters.stream().allMatch(f -> f.isSafeFloorMaterial(blockState))) {
+                data |= SpongeTeleportHelper.SAFE_FLOOR;
+            }
+            if (filters.stream().allMatch(f -> f.isSafeBodyMaterial(blockState))) {
+                data |= SpongeTeleportHelper.SAFE_BODY;
+            }
+            this.blockCache[index] = data;
+            return data;
         }
 
-        private BlockData(BlockState blockState, Collection<TeleportHelperFilter> filters) {
-            this.isSafeFloor = filters.stream().allMatch(x -> x.isSafeFloorMaterial(blockState));
-            this.isSafeBody = filters.stream().allMatch(x -> x.isSafeBodyMaterial(blockState));
+        private ChunkAccess chunk(final int x, final int z) {
+            final int index = ((z >> 4) - this.chunkMinZ) * this.chunksX + ((x >> 4) - this.chunkMinX);
+            ChunkAccess chunk = this.chunks[index];
+            if (chunk == null) {
+                chunk = this.level.getChunk(x >> 4, z >> 4);
+                this.chunks[index] = chunk;
+            }
+            return chunk;
         }
-
     }
 
 }
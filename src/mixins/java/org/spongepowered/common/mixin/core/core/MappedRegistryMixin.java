@@ -33,6 +33,7 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.accessor.resources.ResourceKeyAccessor;
+import org.spongepowered.common.registry.SpongeDefaultedRegistryReference;
 import org.spongepowered.common.registry.SpongeRegistryEntry;
 import org.spongepowered.common.registry.SpongeRegistryType;
 
@@ -48,6 +49,7 @@
         final ResourceKey location = (ResourceKey) (Object) resourceKey.location();
         this.bridge$register(new SpongeRegistryEntry<>(new SpongeRegistryType<>(root, location),
                 (ResourceKey) (Object) p_243537_2_.location(), p_243537_3_));
+        SpongeDefaultedRegistryReference.invalidateAll();
     }
 
 }
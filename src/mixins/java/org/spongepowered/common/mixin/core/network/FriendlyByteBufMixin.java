@@ -50,4 +50,9 @@ private Component localizeComponent(final Component input) {
     public void bridge$setLocale(final Locale locale) {
         this.impl$locale = locale;
     }
+
+    @Override
+    public @Nullable Locale bridge$getLocale() {
+        return this.impl$locale;
+    }
 }
@@ -0,0 +1,72 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.core.network.protocol.game;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.chat.ChatType;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.protocol.game.ClientboundChatPacket;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.adventure.LocalizedPacketBody;
+import org.spongepowered.common.bridge.network.protocol.game.ClientboundChatPacketBridge;
+
+import java.util.UUID;
+
+@Mixin(ClientboundChatPacket.class)
+public abstract class ClientboundChatPacketMixin implements ClientboundChatPacketBridge {
+
+    @Shadow private Component message;
+    @Shadow private ChatType type;
+    @Shadow private UUID sender;
+
+    private volatile @Nullable LocalizedPacketBody impl$sharedBody;
+
+    @Override
+    public void bridge$shareEncodedBody() {
+        if (this.impl$sharedBody == null) {
+            this.impl$sharedBody = new LocalizedPacketBody();
+        }
+    }
+
+    @Inject(method = "write", at = @At("HEAD"), cancellable = true)
+    private void impl$writeSharedBody(final FriendlyByteBuf buffer, final CallbackInfo ci) {
+        final LocalizedPacketBody body = this.impl$sharedBody;
+        if (body == null) {
+            return;
+        }
+        // Mirrors the vanilla serialization, without re-entering this injector
+        body.write(buffer, target -> {
+            target.writeComponent(this.message);
+            target.writeByte(this.type.getIndex());
+            target.writeUUID(this.sender);
+        });
+        ci.cancel();
+    }
+}
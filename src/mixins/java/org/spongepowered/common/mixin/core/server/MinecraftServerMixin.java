@@ -72,11 +72,14 @@
 import org.spongepowered.common.bridge.server.level.ServerLevelBridge;
 import org.spongepowered.common.bridge.server.players.GameProfileCacheBridge;
 import org.spongepowered.common.bridge.world.level.storage.PrimaryLevelDataBridge;
+import org.spongepowered.common.bridge.world.server.ChunkMapBridge;
 import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
 import org.spongepowered.common.config.inheritable.WorldConfig;
 import org.spongepowered.common.datapack.SpongeDataPackManager;
 import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.registry.SpongeDefaultedRegistryReference;
 import org.spongepowered.common.resourcepack.SpongeResourcePack;
+import org.spongepowered.common.scoreboard.ScoreboardPacketBatch;
 import org.spongepowered.common.service.server.SpongeServerScopedServiceProvider;
 
 import java.io.IOException;
@@ -85,6 +88,7 @@
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
@@ -114,6 +118,9 @@ public abstract class MinecraftServerMixin implements SpongeServer, MinecraftSer
 
     private @Nullable SpongeServerScopedServiceProvider impl$serviceProvider;
     private @Nullable ResourcePack impl$resourcePack;
+    private int impl$autosaveWorldIndex;
+    private int impl$autosaveChunksSaved;
+    private int impl$autosaveBacklog;
 
     @Override
     public Subject subject() {
@@ -155,6 +162,41 @@ public Subject subject() {
         this.scheduler().tick();
     }
 
+    @Inject(method = "tickServer", at = @At(value = "RETURN"))
+    private void impl$onServerTickEnd(final CallbackInfo ci) {
+        ScoreboardPacketBatch.flushAll();
+        this.impl$saveQueuedChunks();
+        this.worldManager().tickPregeneration();
+    }
+
+    private void impl$saveQueuedChunks() {
+        final int budget = SpongeConfigs.getCommon().get().world.autoSaveBudget;
+        // Drain whatever is left at once if the budget was turned off
+        final long deadline = budget > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budget) : Long.MAX_VALUE;
+        final ServerLevel[] levels = this.levels.values().toArray(new ServerLevel[0]);
+        int saved = 0;
+        int backlog = 0;
+        // Start at a different world every tick so that no world is starved of budget
+        for (int i = 0; i < levels.length; i++) {
+            final ChunkMapBridge chunkMap = (ChunkMapBridge) levels[(this.impl$autosaveWorldIndex + i) % levels.length].getChunkSource().chunkMap;
+            saved += chunkMap.bridge$saveQueuedChunks(deadline, saved == 0);
+            backlog += chunkMap.bridge$queuedChunkCount();
+        }
+        this.impl$autosaveWorldIndex = levels.length == 0 ? 0 : (this.impl$autosaveWorldIndex + 1) % levels.length;
+        this.impl$autosaveChunksSaved = saved;
+        this.impl$autosaveBacklog = backlog;
+    }
+
+    @Override
+    public int bridge$autosaveChunksSavedLastTick() {
+        return this.impl$autosaveChunksSaved;
+    }
+
+    @Override
+    public int bridge$autosaveBacklog() {
+        return this.impl$autosaveBacklog;
+    }
+
     @Override
     public CommandSourceStack bridge$getCommandSource(final Cause cause) {
         return this.shadow$createCommandSourceStack();
@@ -177,6 +219,11 @@ public Subject subject() {
         }
     }
 
+    @Inject(method = "stopServer", at = @At(value = "INVOKE", target = "Lnet/minecraft/server/MinecraftServer;saveAllChunks(ZZZ)Z"))
+    private void impl$savePregenerationProgress(final CallbackInfo ci) {
+        this.worldManager().savePregenerationProgress();
+    }
+
     @Inject(method = "stopServer", at = @At(value = "TAIL"))
     private void impl$closeLevelSaveForOtherWorlds(final CallbackInfo ci) {
         for (final Map.Entry<ResourceKey<Level>, ServerLevel> entry : this.levels.entrySet()) {
@@ -231,6 +278,9 @@ private int getSaveTickInterval(final int tickInterval) {
     @Overwrite
     public boolean saveAllChunks(final boolean suppressLog, final boolean flush, final boolean isForced) {
         boolean var0 = false;
+        // Sponge - Regular auto-saves hand their chunks to the per-tick budget in impl$saveQueuedChunks
+        final boolean incremental = !flush && !isForced && this.bridge$performAutosaveChecks()
+            && SpongeConfigs.getCommon().get().world.autoSaveBudget > 0;
 
         for (final ServerLevel world : this.shadow$getAllLevels()) {
             final SerializationBehavior serializationBehavior = ((PrimaryLevelDataBridge) world.getLevelData()).bridge$serializationBehavior().orElse(SerializationBehavior.AUTOMATIC);
@@ -272,6 +322,7 @@ public boolean saveAllChunks(final boolean suppressLog, final boolean flush, fin
                 LOGGER.info("Saving chunks for level '{}'/{}", world, world.dimension().location());
             }
 
+            ((ServerLevelBridge) world).bridge$setIncrementalAutosave(incremental);
             world.save((ProgressListener)null, flush, world.noSave && !isForced);
             var0 = true;
         }
@@ -346,6 +397,8 @@ public void setDifficulty(final Difficulty difficulty, final boolean forceDiffic
     @Inject(method = "reloadResources", at = @At(value = "RETURN"))
     public void impl$serializeDelayedDataPack(final Collection<String> datapacksToLoad, final CallbackInfoReturnable<CompletableFuture<Void>> cir) {
         cir.getReturnValue().thenAccept(v -> {
+            // Tags and other reloadable values were replaced
+            SpongeDefaultedRegistryReference.invalidateAll();
             SpongeDataPackManager.INSTANCE.serializeDelayedDataPack(DataPackTypes.WORLD);
         });
     }
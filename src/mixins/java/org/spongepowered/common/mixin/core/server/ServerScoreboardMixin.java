@@ -58,6 +58,7 @@
 import org.spongepowered.common.bridge.world.scores.ScoreBridge;
 import org.spongepowered.common.bridge.world.scores.ObjectiveBridge;
 import org.spongepowered.common.bridge.server.ServerScoreboardBridge;
+import org.spongepowered.common.scoreboard.ScoreboardPacketBatch;
 import org.spongepowered.common.scoreboard.SpongeDisplaySlot;
 import org.spongepowered.common.scoreboard.SpongeObjective;
 import org.spongepowered.common.scoreboard.SpongeScore;
@@ -81,6 +82,7 @@ public abstract class ServerScoreboardMixin extends Scoreboard implements Server
     @Shadow protected abstract void shadow$setDirty();
 
     private final List<ServerPlayer> impl$players = new ArrayList<>();
+    private final ScoreboardPacketBatch impl$packetBatch = new ScoreboardPacketBatch(this.impl$players);
 
     // Update objective in display slot
 
@@ -157,6 +159,7 @@ public abstract class ServerScoreboardMixin extends Scoreboard implements Server
         }
 
         ((ServerScoreboardBridge) this).bridge$sendToPlayers(new ClientboundSetObjectivePacket(scoreObjective, Constants.Scoreboards.OBJECTIVE_PACKET_REMOVE));
+        this.impl$packetBatch.forgetObjective(scoreObjective.getName());
 
         final List list = ((ScoreboardAccessor) this).accessor$objectivesByCriteria().get(scoreObjective.getCriteria());
 
@@ -201,13 +204,13 @@ public abstract class ServerScoreboardMixin extends Scoreboard implements Server
 
     @Override
     public void bridge$sendToPlayers(final Packet<?> packet) {
-        for (final ServerPlayer player: this.impl$players) {
-            player.connection.send(packet);
-        }
+        this.impl$packetBatch.send(packet);
     }
 
     @Override
     public void bridge$addPlayer(final ServerPlayer player, final boolean sendPackets) {
+        // Bring existing viewers up to date, the new one gets the full state below
+        this.impl$packetBatch.flush();
         this.impl$players.add(player);
         if (sendPackets) {
             for (final PlayerTeam team : this.getPlayerTeams()) {
@@ -235,6 +238,7 @@ public abstract class ServerScoreboardMixin extends Scoreboard implements Server
 
     @Override
     public void bridge$removePlayer(final ServerPlayer player, final boolean sendPackets) {
+        this.impl$packetBatch.flush();
         this.impl$players.remove(player);
         if (sendPackets) {
             this.impl$removeScoreboard(player);
@@ -382,6 +386,13 @@ public void setDisplayObjective(final int slot, @Nullable final net.minecraft.wo
         this.bridge$sendToPlayers(packet);
     }
 
+    @Inject(method = {"startTrackingObjective", "stopTrackingObjective"}, at = @At("HEAD"))
+    private void impl$flushBeforeObjectiveTrackingChange(final net.minecraft.world.scores.Objective objective, final CallbackInfo ci) {
+        // The client state of this objective is rebuilt directly, outside of the batch
+        this.impl$packetBatch.flush();
+        this.impl$packetBatch.forgetObjective(objective.getName());
+    }
+
     @Redirect(method = "startTrackingObjective",
         at = @At(value = "INVOKE", target = "Ljava/util/List;iterator()Ljava/util/Iterator;", ordinal = 0, remap = false))
     private Iterator impl$useOurScoreboardForPlayers(final List list) {
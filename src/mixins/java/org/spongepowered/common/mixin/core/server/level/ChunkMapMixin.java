@@ -24,7 +24,11 @@
  */
 package org.spongepowered.common.mixin.core.server.level;
 
+import com.google.common.hash.HashCode;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ChunkHolder;
 import net.minecraft.server.level.ChunkMap;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.ai.village.poi.PoiManager;
@@ -34,6 +38,7 @@
 import net.minecraft.world.level.chunk.ImposterProtoChunk;
 import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.level.chunk.storage.ChunkSerializer;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.api.event.world.chunk.ChunkEvent;
@@ -47,17 +52,25 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.Slice;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.accessor.server.level.ChunkMapAccessor;
+import org.spongepowered.common.accessor.server.level.ChunkMap_TrackedEntityAccessor;
 import org.spongepowered.common.accessor.server.level.ServerChunkCacheAccessor;
 import org.spongepowered.common.bridge.world.DistanceManagerBridge;
 import org.spongepowered.common.bridge.world.level.chunk.LevelChunkBridge;
 import org.spongepowered.common.bridge.world.level.storage.PrimaryLevelDataBridge;
 import org.spongepowered.common.bridge.world.server.ChunkMapBridge;
+import org.spongepowered.common.bridge.world.server.ChunkMap_TrackedEntityBridge;
+import org.spongepowered.common.config.SpongeGameConfigs;
+import org.spongepowered.common.config.inheritable.EntityTrackerCategory;
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.DirectionUtil;
+import org.spongepowered.common.world.storage.ChunkDataDigest;
 import org.spongepowered.math.vector.Vector3i;
 
 @Mixin(ChunkMap.class)
@@ -65,14 +78,86 @@ public abstract class ChunkMapMixin implements ChunkMapBridge {
 
     // @formatter:off
     @Shadow @Final private ServerLevel level;
+    @Shadow private volatile Long2ObjectLinkedOpenHashMap<ChunkHolder> visibleChunkMap;
+
+    @Shadow protected abstract @Nullable ChunkHolder shadow$getVisibleChunkIfPresent(long pos);
+    @Shadow private boolean shadow$save(final ChunkAccess chunk) { return false; }
     // @formatter:on
 
+    private @Nullable EntityTrackerCategory impl$entityTracker;
+    private int impl$trackerTick;
+    private boolean impl$throttledEntityUpdates;
+    private final LongLinkedOpenHashSet impl$autosaveQueue = new LongLinkedOpenHashSet();
+
     public DistanceManagerBridge bridge$distanceManager() {
         // The ticket manager on this object is a package-private class and isn't accessible from here
         // - @Shadow doesn't work because it seems to need the exact type.
         return (DistanceManagerBridge) ((ServerChunkCacheAccessor) this.level.getChunkSource()).accessor$distanceManager();
     }
 
+    @Override
+    public @Nullable EntityTrackerCategory bridge$entityTracker() {
+        return this.impl$entityTracker;
+    }
+
+    @Override
+    public int bridge$trackerTick() {
+        return this.impl$trackerTick;
+    }
+
+    @Override
+    public void bridge$queueUnsavedChunks() {
+        for (final ChunkHolder holder : this.visibleChunkMap.values()) {
+            if (holder.wasAccessibleSinceLastSave()) {
+                this.impl$autosaveQueue.add(holder.getPos().toLong());
+            }
+        }
+    }
+
+    @Override
+    public int bridge$saveQueuedChunks(final long deadline, final boolean atLeastOne) {
+        int saved = 0;
+        while (!this.impl$autosaveQueue.isEmpty() && ((atLeastOne && saved == 0) || System.nanoTime() < deadline)) {
+            final ChunkHolder holder = this.shadow$getVisibleChunkIfPresent(this.impl$autosaveQueue.removeFirstLong());
+            // Chunks unloaded in the meantime were saved while unloading
+            if (holder == null) {
+                continue;
+            }
+            final ChunkAccess chunk = holder.getChunkToSave().getNow(null);
+            if (chunk instanceof ImposterProtoChunk || chunk instanceof LevelChunk) {
+                if (this.shadow$save(chunk)) {
+                    saved++;
+                }
+                holder.refreshAccessibility();
+            }
+        }
+        return saved;
+    }
+
+    @Override
+    public int bridge$queuedChunkCount() {
+        return this.impl$autosaveQueue.size();
+    }
+
+    @Inject(method = "tick()V", at = @At("HEAD"))
+    private void impl$resolveEntityTracker(final CallbackInfo ci) {
+        final EntityTrackerCategory entityTracker = SpongeGameConfigs.getForWorld(this.level).get().entityTracker;
+        this.impl$entityTracker = entityTracker.enabled ? entityTracker : null;
+        this.impl$trackerTick = this.level.getServer().getTickCount();
+    }
+
+    @Inject(method = "tick()V", at = @At("TAIL"))
+    private void impl$sendThrottledEntityUpdates(final CallbackInfo ci) {
+        // Flush once more after the tracker was disabled so no player is left with a stale state
+        if (this.impl$entityTracker == null && !this.impl$throttledEntityUpdates) {
+            return;
+        }
+        this.impl$throttledEntityUpdates = this.impl$entityTracker != null;
+        for (final ChunkMap_TrackedEntityAccessor trackedEntity : ((ChunkMapAccessor) this).accessor$entityMap().values()) {
+            ((ChunkMap_TrackedEntityBridge) trackedEntity).bridge$sendThrottledUpdates();
+        }
+    }
+
     @Redirect(method = "save",
             at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/ai/village/poi/PoiManager;flush(Lnet/minecraft/world/level/ChunkPos;)V"))
     private void impl$useSerializationBehaviorForPOI(final PoiManager pointOfInterestManager, final ChunkPos p_219112_1_) {
@@ -90,7 +175,18 @@ public abstract class ChunkMapMixin implements ChunkMapBridge {
         final PrimaryLevelDataBridge infoBridge = (PrimaryLevelDataBridge) this.level.getLevelData();
         final SerializationBehavior serializationBehavior = infoBridge.bridge$serializationBehavior().orElse(SerializationBehavior.AUTOMATIC);
         if (serializationBehavior == SerializationBehavior.AUTOMATIC || serializationBehavior == SerializationBehavior.MANUAL) {
-            return ChunkSerializer.write(worldIn, chunkIn);
+            final CompoundTag tag = ChunkSerializer.write(worldIn, chunkIn);
+            // Sponge - Skip compressing and writing data identical to what is already stored
+            if (chunkIn instanceof LevelChunk && SpongeConfigs.getCommon().get().modules.optimizations
+                    && SpongeConfigs.getCommon().get().optimizations.skipUnchangedChunkWrites) {
+                final LevelChunkBridge chunk = (LevelChunkBridge) chunkIn;
+                final HashCode digest = ChunkDataDigest.digest(tag);
+                if (digest.equals(chunk.bridge$getSavedDigest())) {
+                    return null;
+                }
+                chunk.bridge$setSavedDigest(digest);
+            }
+            return tag;
         }
 
         return null;
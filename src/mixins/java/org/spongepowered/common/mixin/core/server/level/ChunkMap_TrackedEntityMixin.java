@@ -24,6 +24,20 @@
  */
 package org.spongepowered.common.mixin.core.server.level;
 
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientboundMoveEntityPacket;
+import net.minecraft.network.protocol.game.ClientboundRotateHeadPacket;
+import net.minecraft.network.protocol.game.ClientboundSetEntityDataPacket;
+import net.minecraft.network.protocol.game.ClientboundSetEntityMotionPacket;
+import net.minecraft.network.protocol.game.ClientboundTeleportEntityPacket;
+import net.minecraft.server.level.ChunkMap;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.network.ServerGamePacketListenerImpl;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
@@ -32,18 +46,30 @@
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.bridge.data.VanishableBridge;
+import org.spongepowered.common.bridge.world.server.ChunkMapBridge;
+import org.spongepowered.common.bridge.world.server.ChunkMap_TrackedEntityBridge;
+import org.spongepowered.common.config.inheritable.EntityTrackerCategory;
 import org.spongepowered.common.entity.living.human.HumanEntity;
 
+import java.util.Set;
 import java.util.stream.Stream;
-import net.minecraft.network.protocol.Packet;
-import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.server.network.ServerGamePacketListenerImpl;
-import net.minecraft.world.entity.Entity;
 
 @Mixin(targets = "net/minecraft/server/level/ChunkMap$TrackedEntity")
-public abstract class ChunkMap_TrackedEntityMixin {
+public abstract class ChunkMap_TrackedEntityMixin implements ChunkMap_TrackedEntityBridge {
+
+    private static final int POSITION_UPDATE = 1;
+    private static final int HEAD_ROTATION_UPDATE = 1 << 1;
+    private static final int MOTION_UPDATE = 1 << 2;
+    private static final int DATA_UPDATE = 1 << 3;
 
+    // @formatter:off
+    @Shadow(aliases = "this$0") @Final private ChunkMap chunkMap;
     @Shadow @Final private Entity entity;
+    @Shadow @Final private Set<ServerPlayer> seenBy;
+    // @formatter:on
+
+    // The kinds of updates held back from each distant player
+    private final Object2IntOpenHashMap<ServerPlayer> impl$pendingUpdates = new Object2IntOpenHashMap<>();
 
     /**
      * @author gabizou
@@ -81,6 +107,129 @@ public abstract class ChunkMap_TrackedEntityMixin {
         }
     }
 
+    /**
+     * Movement and metadata updates are sent to distant players at the
+     * interval of their distance bucket. Relative updates that cannot be
+     * skipped without desyncing the client are held back and replaced by the
+     * latest absolute state in {@link #bridge$sendThrottledUpdates()}.
+     */
+    @Inject(method = "broadcast(Lnet/minecraft/network/protocol/Packet;)V", at = @At("HEAD"), cancellable = true)
+    private void impl$throttleDistantPlayers(final Packet<?> packet, final CallbackInfo ci) {
+        final EntityTrackerCategory tracker = ((ChunkMapBridge) this.chunkMap).bridge$entityTracker();
+        if (tracker == null || this.entity instanceof HumanEntity) {
+            return;
+        }
+        final int kind = this.impl$updateKind(packet);
+        if (kind == 0) {
+            return;
+        }
+        ci.cancel();
+        final int tick = ((ChunkMapBridge) this.chunkMap).bridge$trackerTick();
+        // Move packets and dirty metadata are deltas against the previous update
+        final boolean delta = packet instanceof ClientboundMoveEntityPacket || packet instanceof ClientboundSetEntityDataPacket;
+        for (final ServerPlayer player : this.seenBy) {
+            final int pending = this.impl$pendingUpdates.getInt(player);
+            if (!this.impl$isUpdateDue(player, tracker, tick)) {
+                this.impl$pendingUpdates.put(player, pending | kind);
+                continue;
+            }
+            if ((pending & kind) != 0) {
+                if (delta) {
+                    continue;
+                }
+                this.impl$clearPending(player, pending & ~kind);
+            }
+            player.connection.send(packet);
+        }
+    }
+
+    @Inject(method = {"removePlayer", "updatePlayer"}, at = @At("TAIL"))
+    private void impl$forgetPendingUpdates(final ServerPlayer player, final CallbackInfo ci) {
+        if (!this.seenBy.contains(player)) {
+            this.impl$pendingUpdates.removeInt(player);
+        }
+    }
+
+    @Override
+    public void bridge$sendThrottledUpdates() {
+        if (this.impl$pendingUpdates.isEmpty()) {
+            return;
+        }
+        final EntityTrackerCategory tracker = ((ChunkMapBridge) this.chunkMap).bridge$entityTracker();
+        final int tick = ((ChunkMapBridge) this.chunkMap).bridge$trackerTick();
+        final ObjectIterator<Object2IntMap.Entry<ServerPlayer>> iterator = this.impl$pendingUpdates.object2IntEntrySet().fastIterator();
+        while (iterator.hasNext()) {
+            final Object2IntMap.Entry<ServerPlayer> entry = iterator.next();
+            final ServerPlayer player = entry.getKey();
+            if (!this.seenBy.contains(player)) {
+                iterator.remove();
+                continue;
+            }
+            if (tracker != null && !this.impl$isUpdateDue(player, tracker, tick)) {
+                continue;
+            }
+            this.impl$sendLatestState(player, entry.getIntValue());
+            iterator.remove();
+        }
+    }
+
+    private void impl$clearPending(final ServerPlayer player, final int remaining) {
+        if (remaining == 0) {
+            this.impl$pendingUpdates.removeInt(player);
+        } else {
+            this.impl$pendingUpdates.put(player, remaining);
+        }
+    }
+
+    private int impl$updateKind(final Packet<?> packet) {
+        if (packet instanceof ClientboundMoveEntityPacket || packet instanceof ClientboundTeleportEntityPacket) {
+            return ChunkMap_TrackedEntityMixin.POSITION_UPDATE;
+        }
+        if (packet instanceof ClientboundRotateHeadPacket) {
+            return ChunkMap_TrackedEntityMixin.HEAD_ROTATION_UPDATE;
+        }
+        if (packet instanceof ClientboundSetEntityMotionPacket) {
+            return ChunkMap_TrackedEntityMixin.MOTION_UPDATE;
+        }
+        // Player metadata may carry scaled health, always send it as is
+        if (packet instanceof ClientboundSetEntityDataPacket && !(this.entity instanceof ServerPlayer)) {
+            return ChunkMap_TrackedEntityMixin.DATA_UPDATE;
+        }
+        return 0;
+    }
+
+    private boolean impl$isUpdateDue(final ServerPlayer player, final EntityTrackerCategory tracker, final int tick) {
+        final double distanceSq = player.distanceToSqr(this.entity);
+        if (distanceSq <= (double) tracker.nearRange * tracker.nearRange) {
+            return true;
+        }
+        final int interval = distanceSq <= (double) tracker.mediumRange * tracker.mediumRange ? tracker.mediumInterval : tracker.farInterval;
+        // Spread the updates of different entities over the interval
+        return interval <= 1 || (tick + this.entity.getId()) % interval == 0;
+    }
+
+    private void impl$sendLatestState(final ServerPlayer player, final int kinds) {
+        if ((kinds & ChunkMap_TrackedEntityMixin.POSITION_UPDATE) != 0) {
+            if (this.entity.isPassenger()) {
+                // Vehicles position their passengers, only the rotation is synced
+                player.connection.send(new ClientboundMoveEntityPacket.Rot(this.entity.getId(),
+                        (byte) Mth.floor(this.entity.yRot * 256.0F / 360.0F), (byte) Mth.floor(this.entity.xRot * 256.0F / 360.0F),
+                        this.entity.isOnGround()));
+            } else {
+                player.connection.send(new ClientboundTeleportEntityPacket(this.entity));
+            }
+        }
+        if ((kinds & ChunkMap_TrackedEntityMixin.HEAD_ROTATION_UPDATE) != 0) {
+            player.connection.send(new ClientboundRotateHeadPacket(this.entity, (byte) Mth.floor(this.entity.getYHeadRot() * 256.0F / 360.0F)));
+        }
+        if ((kinds & ChunkMap_TrackedEntityMixin.MOTION_UPDATE) != 0) {
+            player.connection.send(new ClientboundSetEntityMotionPacket(this.entity.getId(), this.entity.getDeltaMovement()));
+        }
+        if ((kinds & ChunkMap_TrackedEntityMixin.DATA_UPDATE) != 0) {
+            player.connection.send(new ClientboundSetEntityDataPacket(this.entity.getId(), this.entity.getEntityData(), true));
+        }
+    }
+
     @Redirect(method = "updatePlayer(Lnet/minecraft/server/level/ServerPlayer;)V",
             at = @At(
                     value = "INVOKE",
@@ -102,6 +102,7 @@
 import org.spongepowered.common.bridge.world.level.border.WorldBorderBridge;
 import org.spongepowered.common.bridge.world.level.chunk.LevelChunkBridge;
 import org.spongepowered.common.bridge.world.level.storage.PrimaryLevelDataBridge;
+import org.spongepowered.common.bridge.world.server.ChunkMapBridge;
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.PhaseContext;
@@ -141,6 +142,7 @@ public abstract class ServerLevelMixin extends LevelMixin implements ServerLevel
     private Map<Entity, Vector3d> impl$rotationUpdates;
     private Weather impl$prevWeather;
     private boolean impl$isManualSave = false;
+    private boolean impl$isIncrementalAutosave = false;
     private long impl$preTickTime = 0L;
 
     @Inject(method = "<init>", at = @At("TAIL"))
@@ -266,6 +268,11 @@ public abstract class ServerLevelMixin extends LevelMixin implements ServerLevel
         this.impl$isManualSave = state;
     }
 
+    @Override
+    public void bridge$setIncrementalAutosave(final boolean state) {
+        this.impl$isIncrementalAutosave = state;
+    }
+
     @Override
     public BlockSnapshot bridge$createSnapshot(final int x, final int y, final int z) {
         final BlockPos pos = new BlockPos(x, y, z);
@@ -323,6 +330,9 @@ public abstract class ServerLevelMixin extends LevelMixin implements ServerLevel
     @Overwrite
     public void save(@Nullable final ProgressListener progress, final boolean flush, final boolean skipSave) {
 
+        final boolean incrementalAutosave = this.impl$isIncrementalAutosave;
+        this.impl$isIncrementalAutosave = false;
+
         final Cause currentCause = Sponge.server().causeStackManager().currentCause();
 
         if (Sponge.eventManager().post(SpongeEventFactory.createSaveWorldEventPre(currentCause, ((ServerWorld) this)))) {
@@ -366,7 +376,13 @@ public void save(@Nullable final ProgressListener progress, final boolean flush,
             final boolean canManuallySave = this.impl$isManualSave && behavior == SerializationBehavior.MANUAL;
 
             if (canAutomaticallySave || canManuallySave) {
-                chunkProvider.save(flush);
+                // Sponge Start - Auto-saves queue their chunks, which are saved over the next ticks by the server
+                if (incrementalAutosave && !flush) {
+                    ((ChunkMapBridge) chunkProvider.chunkMap).bridge$queueUnsavedChunks();
+                } else {
+                    chunkProvider.save(flush);
+                }
+                // Sponge End
             }
 
             Sponge.eventManager().post(SpongeEventFactory.createSaveWorldEventPost(currentCause, ((ServerWorld) this)));
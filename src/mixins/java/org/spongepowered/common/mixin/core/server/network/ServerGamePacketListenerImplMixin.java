@@ -42,6 +42,7 @@
 import net.minecraft.network.chat.ChatType;
 import net.minecraft.network.chat.TranslatableComponent;
 import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientboundAddPlayerPacket;
 import net.minecraft.network.protocol.game.ClientboundBlockBreakAckPacket;
 import net.minecraft.network.protocol.game.ClientboundCommandSuggestionsPacket;
 import net.minecraft.network.protocol.game.ClientboundPlayerInfoPacket;
@@ -174,9 +175,17 @@ public abstract class ServerGamePacketListenerImplMixin implements ServerGamePac
     private void impl$onClientboundPacketSend(final Packet<?> packet, final GenericFutureListener<? extends Future<? super Void>> listener, final CallbackInfo ci) {
         if (packet instanceof ClientboundPlayerInfoPacket) {
             ((SpongeTabList) ((ServerPlayer) this.player).tabList()).updateEntriesOnSend((ClientboundPlayerInfoPacket) packet);
+        } else if (packet instanceof ClientboundAddPlayerPacket) {
+            // The client only renders a player whose profile it already received
+            ((SpongeTabList) ((ServerPlayer) this.player).tabList()).flush();
         }
     }
 
+    @Inject(method = "tick", at = @At("RETURN"))
+    private void impl$flushTabListChanges(final CallbackInfo ci) {
+        ((SpongeTabList) ((ServerPlayer) this.player).tabList()).flush();
+    }
+
     @Inject(method = "handleCustomCommandSuggestions", at = @At(value = "NEW", target = "com/mojang/brigadier/StringReader", remap = false),
             cancellable = true)
     private void impl$getSuggestionsFromNonBrigCommand(final ServerboundCommandSuggestionPacket packet, final CallbackInfo ci) {
@@ -122,6 +122,8 @@ public void handleAcceptedLogin() {
                     }
                     return null;
                 })
+                // Read the player data off the main thread, once any offline user data was saved to it
+                .thenCompose(ignored -> ((SpongeServer) SpongeCommon.server()).userManager().preloadPlayerData(this.gameProfile))
                 .handleAsync((ignored, throwable) -> {
                     if (throwable != null) {
                         // We're just going to disconnect here, because something went horribly wrong.
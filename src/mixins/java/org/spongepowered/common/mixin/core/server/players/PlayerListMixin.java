@@ -90,6 +90,7 @@
 import org.spongepowered.common.bridge.client.server.IntegratedPlayerListBridge;
 import org.spongepowered.common.bridge.data.VanishableBridge;
 import org.spongepowered.common.bridge.network.ConnectionBridge;
+import org.spongepowered.common.bridge.network.protocol.game.ClientboundChatPacketBridge;
 import org.spongepowered.common.bridge.server.level.ServerPlayerBridge;
 import org.spongepowered.common.bridge.server.ServerScoreboardBridge;
 import org.spongepowered.common.bridge.server.players.PlayerListBridge;
@@ -486,6 +487,18 @@ public abstract class PlayerListMixin implements PlayerListBridge {
         ((ServerScoreboardBridge) ((ServerPlayer) player).scoreboard()).bridge$removePlayer(player, false);
     }
 
+    @Redirect(method = "broadcastMessage",
+        at = @At(
+            value = "INVOKE",
+            target = "Lnet/minecraft/server/players/PlayerList;broadcastAll(Lnet/minecraft/network/protocol/Packet;)V"
+        )
+    )
+    private void impl$shareEncodedChatPacket(final PlayerList playerList, final Packet<?> packet) {
+        // Every recipient receives this very packet, encode it once per locale rather than once per player
+        ((ClientboundChatPacketBridge) packet).bridge$shareEncodedBody();
+        playerList.broadcastAll(packet);
+    }
+
     @Redirect(method = "setLevel",
         at = @At(
             value = "INVOKE",
@@ -25,6 +25,8 @@
 package org.spongepowered.common.mixin.core.world.level;
 
 import com.google.common.collect.Sets;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import org.spongepowered.api.event.Cause;
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.api.event.world.ExplosionEvent;
@@ -39,10 +41,13 @@
 import org.spongepowered.asm.mixin.injection.Surrogate;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.common.CommonConfig;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.world.level.ExplosionBridge;
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.ExplosionRays;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -133,7 +138,7 @@ public void explode() {
         // Sponge End
 
         // Sponge Start - If the explosion should not break blocks, don't bother calculating it on server thread
-        if (this.impl$shouldBreakBlocks) {
+        if (this.impl$shouldBreakBlocks && !this.impl$castRaysInParallel()) {
             final Set<BlockPos> set = Sets.newHashSet();
             final int i = 16;
 
@@ -272,6 +277,24 @@ public void explode() {
         }
     }
 
+    private boolean impl$castRaysInParallel() {
+        final CommonConfig config = SpongeConfigs.getCommon().get();
+        if (!config.modules.optimizations || !config.optimizations.parallelExplosionRays
+                || !ExplosionRays.canCastInParallel(this.damageCalculator, this.source)) {
+            return false;
+        }
+        final LongSet positions = ExplosionRays.cast(this.level, (net.minecraft.world.level.Explosion) (Object) this, this.damageCalculator,
+                this.x, this.y, this.z, this.radius, this.level.random);
+        if (positions == null) {
+            return false;
+        }
+        final LongIterator iterator = positions.iterator();
+        while (iterator.hasNext()) {
+            this.toBlow.add(BlockPos.of(iterator.nextLong()));
+        }
+        return true;
+    }
+
     @Override
     public boolean bridge$getShouldDamageBlocks() {
         return this.impl$shouldBreakBlocks;
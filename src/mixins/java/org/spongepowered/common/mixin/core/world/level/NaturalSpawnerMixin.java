@@ -32,10 +32,7 @@
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Overwrite;
 import org.spongepowered.asm.mixin.Shadow;
-import org.spongepowered.common.accessor.world.level.NaturalSpawner_SpawnStateAccessor;
 import org.spongepowered.common.bridge.world.level.NaturalSpawner_SpawnStateBridge;
-import org.spongepowered.common.bridge.world.level.storage.PrimaryLevelDataBridge;
-import org.spongepowered.common.config.inheritable.SpawnerCategory;
 
 @Mixin(NaturalSpawner.class)
 public abstract class NaturalSpawnerMixin {
@@ -55,48 +52,14 @@ public abstract class NaturalSpawnerMixin {
     public static void spawnForChunk(ServerLevel world, LevelChunk chunk, NaturalSpawner.SpawnState manager, boolean spawnFriendlies, boolean spawnEnemies, boolean doMobSpawning) {
         world.getProfiler().push("spawner");
 
+        final NaturalSpawner_SpawnStateBridge state = (NaturalSpawner_SpawnStateBridge) manager;
         for (final MobCategory entityclassification : SPAWNING_CATEGORIES) {
-            if ((spawnFriendlies || !entityclassification.isFriendly()) && (spawnEnemies || entityclassification.isFriendly()) && (doMobSpawning || !entityclassification.isPersistent()) && NaturalSpawnerMixin.impl$canSpawnInLevel(manager, entityclassification, world)) {
-                //                 spawnCategoryForChunk(var0, param0, param1, (param1x, param2x, param3x) -> param2.canSpawn(param1x, param2x,
-                //                 param3x), (param1x, param2x) -> param2.afterSpawn(param1x, param2x));
-                NaturalSpawnerMixin.spawnCategoryForChunk(entityclassification, world, chunk,
-                        (p_234969_1_, p_234969_2_, p_234969_3_) -> ((NaturalSpawner_SpawnStateAccessor) manager).invoker$canSpawn(p_234969_1_, p_234969_2_, p_234969_3_),
-                        (p_234970_1_, p_234970_2_) -> ((NaturalSpawner_SpawnStateAccessor) manager).invoker$afterSpawn(p_234970_1_, p_234970_2_)
-                );
+            if ((spawnFriendlies || !entityclassification.isFriendly()) && (spawnEnemies || entityclassification.isFriendly()) && (doMobSpawning || !entityclassification.isPersistent()) && state.bridge$canSpawnForCategoryInWorld(entityclassification, world)) {
+                // The callbacks are created once per spawn state instead of once per chunk and category
+                NaturalSpawnerMixin.spawnCategoryForChunk(entityclassification, world, chunk, state.bridge$spawnPredicate(), state.bridge$afterSpawnCallback());
             }
         }
 
         world.getProfiler().pop();
     }
-
-    private static boolean impl$canSpawnInLevel(final NaturalSpawner.SpawnState manager, final MobCategory classification, final ServerLevel level) {
-        final int tick = NaturalSpawnerMixin.impl$getSpawningTickRate(classification, level);
-        // Unknown category/use default
-        if (tick == -1) {
-            return ((NaturalSpawner_SpawnStateAccessor) manager).invoker$canSpawnForCategory(classification);
-        }
-        // Turn off spawns
-        if (tick == 0) {
-            return false;
-        }
-        return level.getGameTime() % tick  == 0L && ((NaturalSpawner_SpawnStateBridge) manager).bridge$canSpawnForCategoryInWorld(classification, level);
-    }
-
-    private static int impl$getSpawningTickRate(final MobCategory classification, final ServerLevel world) {
-        final SpawnerCategory.TickRatesSubCategory tickRates = ((PrimaryLevelDataBridge) world.getLevelData()).bridge$configAdapter().get().spawner.tickRates;
-        switch (classification) {
-            case MONSTER:
-                return tickRates.monster;
-            case CREATURE:
-                return tickRates.creature;
-            case AMBIENT:
-                return tickRates.ambient;
-            case WATER_CREATURE:
-                return tickRates.aquaticCreature;
-            case WATER_AMBIENT:
-                return tickRates.aquaticAmbient;
-            default:
-                return -1;
-        }
-    }
 }
@@ -25,9 +25,14 @@
 package org.spongepowered.common.mixin.core.world.level;
 
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.MobCategory;
 import net.minecraft.world.level.NaturalSpawner;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
@@ -39,35 +44,112 @@
 @Mixin(NaturalSpawner.SpawnState.class)
 public abstract class NaturalSpawner_SpawnStateMixin implements NaturalSpawner_SpawnStateBridge {
 
+    // Sentinels stored in the resolved limit table. Configured limits may resolve to any
+    // negative value, which spawns nothing, so only the vanilla fallback needs its own value.
+    private static final int USE_VANILLA_LIMIT = Integer.MIN_VALUE;
+    private static final int NOT_SPAWNING = -1;
+    private static final MobCategory[] CATEGORIES = MobCategory.values();
+
     // @formatter:off
     @Shadow @Final private int spawnableChunkCount;
     @Shadow @Final private Object2IntOpenHashMap<MobCategory> mobCategoryCounts;
+
+    @Shadow private boolean shadow$canSpawn(final EntityType<?> type, final BlockPos pos, final ChunkAccess chunk) { return false; }
+    @Shadow private void shadow$afterSpawn(final Mob mob, final ChunkAccess chunk) { }
+    @Shadow private boolean shadow$canSpawnForCategory(final MobCategory category) { return false; }
     // @formatter:on
 
+    private int @Nullable [] impl$spawnLimits;
+    private NaturalSpawner.@Nullable SpawnPredicate impl$spawnPredicate;
+    private NaturalSpawner.@Nullable AfterSpawnCallback impl$afterSpawnCallback;
+
     @Override
     public boolean bridge$canSpawnForCategoryInWorld(final MobCategory classification, final ServerLevel world) {
-        final SpawnerCategory.SpawnLimitsSubCategory spawnLimits = SpongeGameConfigs.getForWorld(world).get().spawner.spawnLimits;
-        final int maxInstancesPerChunk;
+        int[] spawnLimits = this.impl$spawnLimits;
+        if (spawnLimits == null) {
+            spawnLimits = this.impl$spawnLimits = this.impl$resolveSpawnLimits(world);
+        }
+        final int limit = spawnLimits[classification.ordinal()];
+        if (limit == NaturalSpawner_SpawnStateMixin.USE_VANILLA_LIMIT) {
+            return this.shadow$canSpawnForCategory(classification);
+        }
+        return limit >= 0 && this.mobCategoryCounts.getInt(classification) < limit;
+    }
+
+    @Override
+    public NaturalSpawner.SpawnPredicate bridge$spawnPredicate() {
+        if (this.impl$spawnPredicate == null) {
+            this.impl$spawnPredicate = (type, pos, chunk) -> this.shadow$canSpawn(type, pos, chunk);
+        }
+        return this.impl$spawnPredicate;
+    }
+
+    @Override
+    public NaturalSpawner.AfterSpawnCallback bridge$afterSpawnCallback() {
+        if (this.impl$afterSpawnCallback == null) {
+            this.impl$afterSpawnCallback = (mob, chunk) -> this.shadow$afterSpawn(mob, chunk);
+        }
+        return this.impl$afterSpawnCallback;
+    }
+
+    /**
+     * Flattens the tick rates and spawn limits of the world config into a
+     * table indexed by category ordinal. The spawn state only lives for a
+     * single tick, so the game time check can be folded in as well.
+     */
+    private int[] impl$resolveSpawnLimits(final ServerLevel world) {
+        final SpawnerCategory spawner = SpongeGameConfigs.getForWorld(world).get().spawner;
+        final long gameTime = world.getGameTime();
+        final int[] spawnLimits = new int[NaturalSpawner_SpawnStateMixin.CATEGORIES.length];
+        for (final MobCategory category : NaturalSpawner_SpawnStateMixin.CATEGORIES) {
+            final int tickRate = NaturalSpawner_SpawnStateMixin.impl$getSpawningTickRate(spawner.tickRates, category);
+            final int maxInstancesPerChunk = NaturalSpawner_SpawnStateMixin.impl$getMaxInstancesPerChunk(spawner.spawnLimits, category);
+            final int limit;
+            // Unknown category/use default
+            if (tickRate == -1 || maxInstancesPerChunk == -1) {
+                limit = NaturalSpawner_SpawnStateMixin.USE_VANILLA_LIMIT;
+            // Turn off spawns
+            } else if (tickRate == 0 || gameTime % tickRate != 0L) {
+                limit = NaturalSpawner_SpawnStateMixin.NOT_SPAWNING;
+            } else {
+                limit = maxInstancesPerChunk * this.spawnableChunkCount / NaturalSpawnerAccessor.accessor$MAGIC_NUMBER();
+            }
+            spawnLimits[category.ordinal()] = limit;
+        }
+        return spawnLimits;
+    }
+
+    private static int impl$getSpawningTickRate(final SpawnerCategory.TickRatesSubCategory tickRates, final MobCategory classification) {
+        switch (classification) {
+            case MONSTER:
+                return tickRates.monster;
+            case CREATURE:
+                return tickRates.creature;
+            case AMBIENT:
+                return tickRates.ambient;
+            case WATER_CREATURE:
+                return tickRates.aquaticCreature;
+            case WATER_AMBIENT:
+                return tickRates.aquaticAmbient;
+            default:
+                return -1;
+        }
+    }
+
+    private static int impl$getMaxInstancesPerChunk(final SpawnerCategory.SpawnLimitsSubCategory spawnLimits, final MobCategory classification) {
         switch (classification) {
             case MONSTER:
-                maxInstancesPerChunk = spawnLimits.monster;
-                break;
+                return spawnLimits.monster;
             case CREATURE:
-                maxInstancesPerChunk = spawnLimits.creature;
-                break;
+                return spawnLimits.creature;
             case AMBIENT:
-                maxInstancesPerChunk = spawnLimits.ambient;
-                break;
+                return spawnLimits.ambient;
             case WATER_CREATURE:
-                maxInstancesPerChunk = spawnLimits.aquaticCreature;
-                break;
+                return spawnLimits.aquaticCreature;
             case WATER_AMBIENT:
-                maxInstancesPerChunk = spawnLimits.aquaticAmbient;
-                break;
+                return spawnLimits.aquaticAmbient;
             default:
-                throw new IllegalStateException("Unexpected value: " + classification);
+                return -1;
         }
-        final int i = maxInstancesPerChunk * this.spawnableChunkCount / NaturalSpawnerAccessor.accessor$MAGIC_NUMBER();
-        return this.mobCategoryCounts.getInt(classification) < i;
     }
 }
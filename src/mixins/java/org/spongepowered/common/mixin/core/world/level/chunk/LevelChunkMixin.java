@@ -25,6 +25,7 @@
 package org.spongepowered.common.mixin.core.world.level.chunk;
 
 import com.google.common.base.MoreObjects;
+import com.google.common.hash.HashCode;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerChunkCache;
 import net.minecraft.util.ClassInstanceMultiMap;
@@ -93,6 +94,7 @@ public abstract class LevelChunkMixin implements LevelChunkBridge, CacheKeyBridg
     private boolean impl$isSpawning = false;
     private final net.minecraft.world.level.chunk.LevelChunk[] impl$neighbors = new net.minecraft.world.level.chunk.LevelChunk[4];
     private long impl$cacheKey;
+    private @Nullable HashCode impl$savedDigest;
     private Map<Integer, PlayerTracker> impl$trackedIntBlockPositions = new HashMap<>();
     private Map<Short, PlayerTracker> impl$trackedShortBlockPositions = new HashMap<>();
 
@@ -352,6 +354,16 @@ public String toString() {
         return this.impl$cacheKey;
     }
 
+    @Override
+    public @Nullable HashCode bridge$getSavedDigest() {
+        return this.impl$savedDigest;
+    }
+
+    @Override
+    public void bridge$setSavedDigest(final @Nullable HashCode digest) {
+        this.impl$savedDigest = digest;
+    }
+
     @Override
     public boolean bridge$spawnEntity(final org.spongepowered.api.entity.Entity entity) {
         final net.minecraft.world.entity.Entity mcEntity = (net.minecraft.world.entity.Entity) entity;
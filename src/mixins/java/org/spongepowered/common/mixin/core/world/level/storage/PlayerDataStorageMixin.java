@@ -70,6 +70,11 @@ public abstract class PlayerDataStorageMixin {
 
     @Redirect(method = "load", at = @At(value = "INVOKE", target = "Lnet/minecraft/nbt/NbtIo;readCompressed(Ljava/io/File;)Lnet/minecraft/nbt/CompoundTag;"))
     private CompoundTag impl$wrapFileRead(final File param0) throws IOException {
+        // Use the data read while the player was logging in, if any
+        final @Nullable CompoundTag preloaded = ((SpongeServer) SpongeCommon.server()).userManager().playerDataPreloader().take(param0);
+        if (preloaded != null) {
+            return preloaded;
+        }
         try {
             return NbtIo.readCompressed(param0);
         } catch (final IOException exception) {
@@ -35,15 +35,10 @@
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
-import org.spongepowered.common.applaunch.config.common.CommonConfig;
-import org.spongepowered.common.applaunch.config.core.ConfigHandle;
-import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.entitycollision.CollisionCapabilityBridge;
+import org.spongepowered.common.bridge.entitycollision.CollisionLimitsHolderBridge;
 import org.spongepowered.common.bridge.world.level.LevelBridge;
 import org.spongepowered.common.bridge.world.level.storage.PrimaryLevelDataBridge;
-import org.spongepowered.common.config.inheritable.EntityCollisionCategory;
-import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
-import org.spongepowered.common.config.inheritable.WorldConfig;
 
 @Mixin(value = net.minecraft.world.entity.Entity.class, priority = 1002)
 public abstract class EntityMixin_EntityCollision implements CollisionCapabilityBridge {
@@ -89,60 +84,10 @@ public abstract class EntityMixin_EntityCollision implements CollisionCapability
 
     @Override
     public void collision$initializeCollisionState(final net.minecraft.world.level.Level world) {
-        final InheritableConfigHandle<WorldConfig> worldConfigAdapter = ((PrimaryLevelDataBridge) world.getLevelData()).bridge$configAdapter();
-        final ConfigHandle<CommonConfig> globalConfigAdapter = SpongeConfigs.getCommon();
-        final EntityCollisionCategory.ModSubCategory worldCollMod =
-                worldConfigAdapter.getOrCreateValue(s -> s.entityCollision.mods.get(this.entityCollision$key.namespace()),
-                c -> {
-                    // TODO: save after populating?
-                    final EntityCollisionCategory.ModSubCategory globalCollision = new EntityCollisionCategory.ModSubCategory(this.entityCollision$key.namespace());
-                    c.entityCollision.mods.put(this.entityCollision$key.namespace(), globalCollision);
-                    globalCollision.entities.put(this.entityCollision$key.namespace(), this.collision$getMaxCollisions());
-                }, worldConfigAdapter.get().entityCollision.autoPopulate);
-        final EntityCollisionCategory worldCollCat = worldConfigAdapter.get().entityCollision;
-
-        this.collision$setMaxCollisions(worldCollCat.maxEntitiesWithinAABB);
-
-        boolean requiresSave = false;
-        if (worldCollMod != null) {
-            if (!worldCollMod.enabled) {
-                this.collision$setMaxCollisions(-1);
-                return;
-            }
-            // check mod overrides
-            final Integer modCollisionMax = worldCollMod.entityDefault;
-            if (modCollisionMax != null) {
-                this.collision$setMaxCollisions(modCollisionMax);
-            }
-
-            Integer entityMaxCollision = null;
-            if ((net.minecraft.world.entity.Entity) (Object) this instanceof ItemEntity) {
-                // check if all items are overridden
-                entityMaxCollision = worldCollMod.entities.get(this.entityCollision$key.value());
-            }
-
-            if (entityMaxCollision == null) {
-                entityMaxCollision = worldCollMod.entities.get(this.entityCollision$key.value());
-            }
-
-            // entity overrides
-            if (entityMaxCollision == null && worldCollCat.autoPopulate) {
-                // TODO(zml): Populate better
-                //globalCollMod.getEntityList().put(this.entityCollision$key.getValue(), this.collision$getMaxCollisions());
-                requiresSave = true;
-            } else if (entityMaxCollision != null) {
-                this.collision$setMaxCollisions(entityMaxCollision);
-            }
-        }
-
-        // don't bother saving for negative values
-        if (this.collision$getMaxCollisions() <= 0) {
+        if (this.entityCollision$key == null) {
             return;
         }
-
-        if (requiresSave) {
-            globalConfigAdapter.save();
-        }
+        this.collision$setMaxCollisions(((CollisionLimitsHolderBridge) world).collision$limits().entityLimit(this.entityCollision$key));
     }
 
     @Override
@@ -64,8 +64,9 @@ public abstract class LivingEntityMixin_EntityCollision extends EntityMixin_Enti
         return this.runningCollideWithNearby;
     }
 
-    // This injection allows maxEntityCramming to be applied first before checking for max collisions
-    @Redirect(method = "pushEntities", at = @At(value = "INVOKE", target = "Ljava/util/List;size()I", remap = false))
+    // This injection allows maxEntityCramming to be applied first before checking for max collisions.
+    // Only the final push loop is replaced, the first two size() calls belong to the cramming check.
+    @Redirect(method = "pushEntities", at = @At(value = "INVOKE", target = "Ljava/util/List;size()I", ordinal = 2, remap = false))
     private int collisions$pushEntities(final List<Entity> list) {
         for (final Entity entity: list) {
             // ignore players and entities with parts (ex. EnderDragon)
@@ -58,6 +58,33 @@ public abstract class LevelChunkMixin_EntityCollision {
     @Shadow public abstract Level shadow$getLevel();
     //@formatter:on
 
+    private @Nullable PhaseContext<?> entityCollision$lastContext;
+    private @Nullable Object entityCollision$lastSource;
+    private int entityCollision$lastMaxCollisions;
+
+    @SuppressWarnings("InvalidInjectorMethodSignature")
+    @Inject(method = {
+        "getEntities(Lnet/minecraft/world/entity/Entity;Lnet/minecraft/world/phys/AABB;Ljava/util/List;Ljava/util/function/Predicate;)V",
+        "getEntities(Lnet/minecraft/world/entity/EntityType;Lnet/minecraft/world/phys/AABB;Ljava/util/List;Ljava/util/function/Predicate;)V",
+        "getEntitiesOfClass(Ljava/lang/Class;Lnet/minecraft/world/phys/AABB;Ljava/util/List;Ljava/util/function/Predicate;)V",
+    },
+        at = @At("HEAD"),
+        cancellable = true)
+    private void collisionsImpl$skipChunkWhenCapReached(
+        final @Nullable @Coerce Object entity,
+        final AABB bb,
+        final List<Entity> entities,
+        final Predicate<? super Entity> filter,
+        final CallbackInfo ci
+    ) {
+        // A previous chunk of the same query may have already filled the list,
+        // in which case there is no need to iterate this chunk at all
+        if (entities == null || entities.isEmpty()) {
+            return;
+        }
+        this.collisionsImpl$checkForCollisionRules(entity, bb, entities, filter, ci);
+    }
+
     @SuppressWarnings("InvalidInjectorMethodSignature")
     @Inject(method = {
         "getEntities(Lnet/minecraft/world/entity/Entity;Lnet/minecraft/world/phys/AABB;Ljava/util/List;Ljava/util/function/Predicate;)V",
@@ -91,25 +118,60 @@ public abstract class LevelChunkMixin_EntityCollision {
             return;
         }
 
-        if (!this.entityCollision$allowEntityCollision(entities)) {
+        final int maxCollisions = this.entityCollision$maxCollisions();
+        if (maxCollisions >= 0 && entities.size() >= maxCollisions) {
+            this.entityCollision$forgetQuery();
             ci.cancel();
         }
     }
 
-    private <T extends Entity> boolean entityCollision$allowEntityCollision(final List<T> entities) {
+    @Inject(method = {
+        "getEntities(Lnet/minecraft/world/entity/Entity;Lnet/minecraft/world/phys/AABB;Ljava/util/List;Ljava/util/function/Predicate;)V",
+        "getEntities(Lnet/minecraft/world/entity/EntityType;Lnet/minecraft/world/phys/AABB;Ljava/util/List;Ljava/util/function/Predicate;)V",
+        "getEntitiesOfClass(Ljava/lang/Class;Lnet/minecraft/world/phys/AABB;Ljava/util/List;Ljava/util/function/Predicate;)V",
+    },
+        at = @At("RETURN"))
+    private void collisionsImpl$forgetFinishedQuery(final CallbackInfo ci) {
+        this.entityCollision$forgetQuery();
+    }
+
+    /**
+     * Drops the remembered phase context and source once a query is over, as
+     * contexts are pooled and reused, and the source may be an entity that
+     * should not be kept alive by the chunk.
+     */
+    private void entityCollision$forgetQuery() {
+        this.entityCollision$lastContext = null;
+        this.entityCollision$lastSource = null;
+    }
+
+    /**
+     * Gets the collision limit of the current phase source, a negative
+     * value meaning there is no limit.
+     *
+     * <p>A single query adds every matching entity one by one while the phase
+     * and its source stay the same, so the resolved limit is remembered for
+     * as long as they do.</p>
+     *
+     * @return The maximum amount of collisions
+     */
+    private int entityCollision$maxCollisions() {
         if (((LevelBridge) this.shadow$getLevel()).bridge$isFake()) {
-            return true;
+            return -1;
         }
 
         final PhaseContext<@NonNull ?> phaseContext = PhaseTracker.getInstance().getPhaseContext();
         if (!phaseContext.allowsEntityCollisionEvents()) {
             // allow explosions
-            return true;
+            return -1;
         }
 
         final Object source = phaseContext.getSource();
         if (source == null) {
-            return true;
+            return -1;
+        }
+        if (phaseContext == this.entityCollision$lastContext && source == this.entityCollision$lastSource) {
+            return this.entityCollision$lastMaxCollisions;
         }
 
         CollisionCapabilityBridge collisionBridge = null;
@@ -122,15 +184,18 @@ public abstract class LevelChunkMixin_EntityCollision {
             collisionBridge = (CollisionCapabilityBridge) source;
         }
 
-        if (collisionBridge == null) {
-            return true;
-        }
-
-        if (collisionBridge.collision$requiresCollisionsCacheRefresh()) {
-            collisionBridge.collision$initializeCollisionState(this.shadow$getLevel());
-            collisionBridge.collision$requiresCollisionsCacheRefresh(false);
+        int maxCollisions = -1;
+        if (collisionBridge != null) {
+            if (collisionBridge.collision$requiresCollisionsCacheRefresh()) {
+                collisionBridge.collision$initializeCollisionState(this.shadow$getLevel());
+                collisionBridge.collision$requiresCollisionsCacheRefresh(false);
+            }
+            maxCollisions = collisionBridge.collision$getMaxCollisions();
         }
 
-        return !((collisionBridge.collision$getMaxCollisions() >= 0) && (entities.size() >= collisionBridge.collision$getMaxCollisions()));
+        this.entityCollision$lastContext = phaseContext;
+        this.entityCollision$lastSource = source;
+        this.entityCollision$lastMaxCollisions = maxCollisions;
+        return maxCollisions;
     }
 }
@@ -24,16 +24,46 @@
  */
 package org.spongepowered.common.mixin.optimization.tileentity;
 
+import net.minecraft.core.Direction;
 import net.minecraft.world.Container;
+import net.minecraft.world.entity.Entity;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.HopperBlock;
+import net.minecraft.world.level.block.entity.Hopper;
 import net.minecraft.world.level.block.entity.HopperBlockEntity;
+import net.minecraft.world.phys.AABB;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.bridge.optimization.HopperContainerCacheBridge;
 import org.spongepowered.common.bridge.optimization.HopperOptimizationBridge;
+import org.spongepowered.common.event.ShouldFire;
+import org.spongepowered.common.world.level.block.entity.HopperContainerCache;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
 
 @Mixin(value = HopperBlockEntity.class, priority = 1300)
-public abstract class HopperTileEntityMixin_Optimization_Hopper extends TileEntityMixin_Optimization_Hopper {
+public abstract class HopperTileEntityMixin_Optimization_Hopper extends TileEntityMixin_Optimization_Hopper implements HopperContainerCacheBridge {
+
+    private final HopperContainerCache hopper$sourceCache = new HopperContainerCache();
+    private final HopperContainerCache hopper$destinationCache = new HopperContainerCache();
+
+    @Override
+    public HopperContainerCache hopperBridge$sourceCache() {
+        return this.hopper$sourceCache;
+    }
+
+    @Override
+    public HopperContainerCache hopperBridge$destinationCache() {
+        return this.hopper$destinationCache;
+    }
 
     @Redirect(method = "tryMoveInItem",
         at = @At(value = "INVOKE", target = "Lnet/minecraft/world/Container;setItem(ILnet/minecraft/world/item/ItemStack;)V"))
@@ -47,4 +77,80 @@ public abstract class HopperTileEntityMixin_Optimization_Hopper extends TileEnti
         }
     }
 
+    // Hoppers do not mark themselves as changed when their items are set or removed
+
+    @Inject(method = "setItem", at = @At("HEAD"))
+    private void hopper$bumpContentVersionOnSet(final CallbackInfo ci) {
+        this.hopper$contentVersion++;
+    }
+
+    @Inject(method = "removeItem", at = @At("HEAD"))
+    private void hopper$bumpContentVersionOnRemove(final CallbackInfoReturnable<ItemStack> cir) {
+        this.hopper$contentVersion++;
+    }
+
+    // Pushing into the attached container
+
+    @Redirect(method = "ejectItems",
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/world/level/block/entity/HopperBlockEntity;getAttachedContainer()Lnet/minecraft/world/Container;"))
+    private @Nullable Container hopper$useCachedAttachedContainer(final HopperBlockEntity self) {
+        final Direction direction = self.getBlockState().getValue(HopperBlock.FACING);
+        final Container container = this.hopper$destinationCache.lookup(self.getLevel(), self.getBlockPos().relative(direction));
+        if (container != null && !ShouldFire.TRANSFER_INVENTORY_EVENT_PRE
+            && this.hopper$destinationCache.isKnownToFail(container, this.hopper$contentVersion)) {
+            // Nothing changed since the last attempt, pretend there is nothing to push into
+            return null;
+        }
+        return container;
+    }
+
+    @Inject(method = "ejectItems", at = @At("RETURN"))
+    private void hopper$recordEjectResult(final CallbackInfoReturnable<Boolean> cir) {
+        this.hopper$destinationCache.recordLastAttempt(cir.getReturnValueZ(), this.hopper$contentVersion);
+    }
+
+    // Pulling from the container above
+
+    @Inject(method = "suckInItems", at = @At("HEAD"), cancellable = true)
+    private static void hopper$skipKnownFailingPull(final Hopper hopper, final CallbackInfoReturnable<Boolean> cir) {
+        if (!(hopper instanceof HopperContainerCacheBridge) || ShouldFire.TRANSFER_INVENTORY_EVENT_PRE) {
+            return;
+        }
+        final HopperContainerCache cache = ((HopperContainerCacheBridge) hopper).hopperBridge$sourceCache();
+        final Container source = cache.lookup(hopper.getLevel(), ((HopperBlockEntity) hopper).getBlockPos().above());
+        if (source != null && cache.isKnownToFail(source, ((HopperOptimizationBridge) hopper).hopperBridge$contentVersion())) {
+            cir.setReturnValue(false);
+        }
+    }
+
+    @Redirect(method = "suckInItems",
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/world/level/block/entity/HopperBlockEntity;getSourceContainer(Lnet/minecraft/world/level/block/entity/Hopper;)Lnet/minecraft/world/Container;"))
+    private static @Nullable Container hopper$useCachedSourceContainer(final Hopper hopper) {
+        if (!(hopper instanceof HopperContainerCacheBridge)) {
+            return HopperBlockEntity.getSourceContainer(hopper);
+        }
+        return ((HopperContainerCacheBridge) hopper).hopperBridge$sourceCache().lookup(hopper.getLevel(), ((HopperBlockEntity) hopper).getBlockPos().above());
+    }
+
+    @Inject(method = "suckInItems", at = @At("RETURN"))
+    private static void hopper$recordPullResult(final Hopper hopper, final CallbackInfoReturnable<Boolean> cir) {
+        if (hopper instanceof HopperContainerCacheBridge) {
+            ((HopperContainerCacheBridge) hopper).hopperBridge$sourceCache()
+                .recordLastAttempt(cir.getReturnValueZ(), ((HopperOptimizationBridge) hopper).hopperBridge$contentVersion());
+        }
+    }
+
+    // Container entity search, for both hoppers and hopper minecarts
+
+    @Redirect(method = "getContainerAt(Lnet/minecraft/world/level/Level;DDD)Lnet/minecraft/world/Container;",
+        at = @At(value = "INVOKE",
+            target = "Lnet/minecraft/world/level/Level;getEntities(Lnet/minecraft/world/entity/Entity;Lnet/minecraft/world/phys/AABB;Ljava/util/function/Predicate;)Ljava/util/List;"))
+    private static List<Entity> hopper$skipSearchWithoutContainerEntities(final Level level, final @Nullable Entity except, final AABB area,
+        final Predicate<? super Entity> predicate) {
+        if (!HopperContainerCache.mayContainContainerEntities(level, area)) {
+            return Collections.emptyList();
+        }
+        return level.getEntities(except, area, predicate);
+    }
+
 }
@@ -35,14 +35,22 @@
 public abstract class TileEntityMixin_Optimization_Hopper implements HopperOptimizationBridge {
 
     private boolean hopper$shouldCancelDirtyUpdate = false;
+    protected int hopper$contentVersion;
 
     @Override
     public void hopperBridge$setCancelDirtyUpdate(final boolean canMarkDirty) {
         this.hopper$shouldCancelDirtyUpdate = canMarkDirty;
     }
 
+    @Override
+    public int hopperBridge$contentVersion() {
+        return this.hopper$contentVersion;
+    }
+
     @Inject(method = "setChanged", at = @At("HEAD"), cancellable = true)
     private void hopper$DoNotUpdateIfMarked(final CallbackInfo ci) {
+        // Hoppers rely on this to know the contents changed, even if the update itself is cancelled
+        this.hopper$contentVersion++;
         if (this.hopper$shouldCancelDirtyUpdate) {
             ci.cancel();
         }
@@ -27,6 +27,7 @@
 import net.minecraft.world.entity.decoration.ItemFrame;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.MapItem;
+import net.minecraft.world.level.saveddata.maps.MapItemSavedData;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
@@ -47,14 +48,19 @@ public abstract class ItemFrameMixin_Optimization_Map extends HangingEntityMixin
             return;
         }
 
-        final OptimizedMapDataBridge mapData = (OptimizedMapDataBridge) MapItem.getOrCreateSavedData(stack, this.level);
+        final ItemStack current = this.shadow$getItem();
+        if (current.getItem() instanceof MapItem) {
+            final MapItemSavedData previous = MapItem.getSavedData(current, this.level);
+            if (previous != null) {
+                ((OptimizedMapDataBridge) previous).mapOptimizationBridge$removeItemFrame((ItemFrame) (Object) this);
+            }
+        }
         if (stack.getItem() instanceof MapItem) {
-            mapData.mapOptimizationBridge$updateItemFrameDecoration((ItemFrame) (Object) this);
-        } else if (this.shadow$getItem().getItem() instanceof MapItem && stack.isEmpty()) {
-            mapData.mapOptimizationBridge$removeItemFrame((ItemFrame) (Object) this);
+            final MapItemSavedData mapData = MapItem.getOrCreateSavedData(stack, this.level);
+            if (mapData != null) {
+                ((OptimizedMapDataBridge) mapData).mapOptimizationBridge$updateItemFrameDecoration((ItemFrame) (Object) this, stack);
+            }
         }
     }
 
-
-
 }
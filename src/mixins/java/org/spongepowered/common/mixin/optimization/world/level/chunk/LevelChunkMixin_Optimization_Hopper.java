@@ -0,0 +1,65 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.world.level.chunk;
+
+import net.minecraft.util.ClassInstanceMultiMap;
+import net.minecraft.world.Container;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.chunk.LevelChunk;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.common.bridge.optimization.HopperOptimizationChunkBridge;
+
+@Mixin(LevelChunk.class)
+public abstract class LevelChunkMixin_Optimization_Hopper implements HopperOptimizationChunkBridge {
+
+    private int hopper$containerEntityCount;
+
+    @Override
+    public int hopperBridge$containerEntityCount() {
+        return this.hopper$containerEntityCount;
+    }
+
+    @Redirect(method = "addEntity", at = @At(value = "INVOKE", target = "Lnet/minecraft/util/ClassInstanceMultiMap;add(Ljava/lang/Object;)Z"))
+    private boolean hopper$countAddedContainerEntity(final ClassInstanceMultiMap<Entity> section, final Object entity) {
+        final boolean added = section.add((Entity) entity);
+        if (added && entity instanceof Container) {
+            this.hopper$containerEntityCount++;
+        }
+        return added;
+    }
+
+    @Redirect(method = "removeEntity(Lnet/minecraft/world/entity/Entity;I)V",
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/util/ClassInstanceMultiMap;remove(Ljava/lang/Object;)Z"))
+    private boolean hopper$countRemovedContainerEntity(final ClassInstanceMultiMap<Entity> section, final Object entity) {
+        final boolean removed = section.remove(entity);
+        if (removed && entity instanceof Container) {
+            this.hopper$containerEntityCount--;
+        }
+        return removed;
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.world.level.chunk;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+@Mixin(PalettedContainer.class)
+public abstract class PalettedContainerMixin_Optimization_Serialization {
+
+    // The palette and states last written, valid until the container is modified
+    private @Nullable Tag serialization$palette;
+    private @Nullable Tag serialization$states;
+
+    @Inject(method = "getAndSet(ILjava/lang/Object;)Ljava/lang/Object;", at = @At("HEAD"))
+    private void serialization$invalidateOnGetAndSet(final CallbackInfoReturnable<Object> cir) {
+        this.serialization$palette = null;
+        this.serialization$states = null;
+    }
+
+    @Inject(method = {
+        "set(ILjava/lang/Object;)V",
+        "read(Lnet/minecraft/nbt/ListTag;[J)V",
+        "read(Lnet/minecraft/network/FriendlyByteBuf;)V"
+    }, at = @At("HEAD"))
+    private void serialization$invalidate(final CallbackInfo ci) {
+        this.serialization$palette = null;
+        this.serialization$states = null;
+    }
+
+    @Inject(method = "write", at = @At("HEAD"), cancellable = true)
+    private void serialization$writeCached(final CompoundTag tag, final String paletteKey, final String statesKey, final CallbackInfo ci) {
+        if (this.serialization$palette == null || this.serialization$states == null) {
+            return;
+        }
+        // Copied as the chunk tag is handed to the storage thread
+        tag.put(paletteKey, this.serialization$palette.copy());
+        tag.put(statesKey, this.serialization$states.copy());
+        ci.cancel();
+    }
+
+    @Inject(method = "write", at = @At("RETURN"))
+    private void serialization$cacheWritten(final CompoundTag tag, final String paletteKey, final String statesKey, final CallbackInfo ci) {
+        final Tag palette = tag.get(paletteKey);
+        final Tag states = tag.get(statesKey);
+        if (palette != null && states != null) {
+            this.serialization$palette = palette.copy();
+            this.serialization$states = states.copy();
+        }
+    }
+
+}
@@ -0,0 +1,268 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.world.level.saveddata.maps;
+
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientboundMapItemDataPacket;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.decoration.ItemFrame;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.MapItem;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.saveddata.maps.MapDecoration;
+import net.minecraft.world.level.saveddata.maps.MapFrame;
+import net.minecraft.world.level.saveddata.maps.MapItemSavedData;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.accessor.server.level.ChunkMapAccessor;
+import org.spongepowered.common.accessor.server.level.ChunkMap_TrackedEntityAccessor;
+import org.spongepowered.common.bridge.optimization.OptimizedMapDataBridge;
+import org.spongepowered.common.bridge.optimization.OptimizedMapInfoBridge;
+import org.spongepowered.common.bridge.optimization.OptimizedMapLevelBridge;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Mixin(MapItemSavedData.class)
+public abstract class MapItemSavedDataMixin_Optimization_Map implements OptimizedMapDataBridge {
+
+    private static final int MAP_SIZE = 128;
+    private static final int DECORATION_UPDATE_INTERVAL = 5;
+    private static final int FRAME_VIEWER_UPDATE_INTERVAL = 10;
+
+    // @formatter:off
+    @Shadow public ResourceKey<Level> dimension;
+    @Shadow public boolean trackingPosition;
+    @Shadow public byte scale;
+    @Shadow public byte[] colors;
+    @Shadow public boolean locked;
+    @Shadow @Final public List<MapItemSavedData.HoldingPlayer> carriedBy;
+    @Shadow @Final private Map<Player, MapItemSavedData.HoldingPlayer> carriedByPlayers;
+    @Shadow @Final public Map<String, MapDecoration> decorations;
+    @Shadow @Final private Map<String, MapFrame> frameMarkers;
+
+    @Shadow protected abstract void shadow$addDecoration(MapDecoration.Type type, @Nullable LevelAccessor level, String id,
+        double worldX, double worldZ, double rotation, @Nullable Component name);
+    @Shadow public abstract MapItemSavedData.HoldingPlayer shadow$getHoldingPlayer(Player player);
+    // @formatter:on
+
+    private final Set<ItemFrame> mapOptimization$itemFrames = new ReferenceOpenHashSet<>();
+    private final Set<ServerPlayer> mapOptimization$frameViewers = new ReferenceOpenHashSet<>();
+    private final Set<ServerPlayer> mapOptimization$syncedViewers = new ReferenceOpenHashSet<>();
+    private int mapOptimization$mapId = -1;
+    private int mapOptimization$lastTick = -1;
+    private boolean mapOptimization$active;
+
+    // The region of colors changed since the last update, shared by every viewer
+    private boolean mapOptimization$dirty;
+    private int mapOptimization$minDirtyX;
+    private int mapOptimization$minDirtyY;
+    private int mapOptimization$maxDirtyX;
+    private int mapOptimization$maxDirtyY;
+
+    @Inject(method = "setDirty(II)V", at = @At("HEAD"))
+    private void mapOptimization$markDirtyRegion(final int x, final int y, final CallbackInfo ci) {
+        if (this.mapOptimization$dirty) {
+            this.mapOptimization$minDirtyX = Math.min(this.mapOptimization$minDirtyX, x);
+            this.mapOptimization$minDirtyY = Math.min(this.mapOptimization$minDirtyY, y);
+            this.mapOptimization$maxDirtyX = Math.max(this.mapOptimization$maxDirtyX, x);
+            this.mapOptimization$maxDirtyY = Math.max(this.mapOptimization$maxDirtyY, y);
+        } else {
+            this.mapOptimization$dirty = true;
+            this.mapOptimization$minDirtyX = x;
+            this.mapOptimization$minDirtyY = y;
+            this.mapOptimization$maxDirtyX = x;
+            this.mapOptimization$maxDirtyY = y;
+        }
+    }
+
+    @Override
+    public void mapOptimizationBridge$updatePlayer(final Player player, final ItemStack mapStack) {
+        this.mapOptimization$mapId = MapItem.getMapId(mapStack);
+        final MapItemSavedData.HoldingPlayer holder = this.shadow$getHoldingPlayer(player);
+        ((OptimizedMapInfoBridge) holder).mapOptimizationBridge$setValid(true);
+
+        final CompoundTag tag = mapStack.getTag();
+        if (tag != null && tag.contains("Decorations", 9)) {
+            final ListTag decorations = tag.getList("Decorations", 10);
+            for (int i = 0; i < decorations.size(); ++i) {
+                final CompoundTag decoration = decorations.getCompound(i);
+                if (!this.decorations.containsKey(decoration.getString("id"))) {
+                    this.shadow$addDecoration(MapDecoration.Type.byIcon(decoration.getByte("type")), player.level, decoration.getString("id"),
+                        decoration.getDouble("x"), decoration.getDouble("z"), decoration.getDouble("rot"), null);
+                }
+            }
+        }
+        ((OptimizedMapLevelBridge) player.level).mapOptimizationBridge$trackMap((MapItemSavedData) (Object) this);
+    }
+
+    @Override
+    public void mapOptimizationBridge$updateItemFrameDecoration(final ItemFrame frame, final ItemStack mapStack) {
+        this.mapOptimization$mapId = MapItem.getMapId(mapStack);
+        this.mapOptimization$itemFrames.add(frame);
+        if (this.trackingPosition) {
+            final BlockPos pos = frame.getPos();
+            final MapFrame previous = this.frameMarkers.get(MapFrame.frameId(pos));
+            if (previous != null && frame.getId() != previous.getEntityId()) {
+                this.decorations.remove("frame-" + previous.getEntityId());
+            }
+            final int rotation = frame.getDirection().get2DDataValue() * 90;
+            final MapFrame marker = new MapFrame(pos, rotation, frame.getId());
+            this.shadow$addDecoration(MapDecoration.Type.FRAME, frame.level, "frame-" + frame.getId(), pos.getX(), pos.getZ(), rotation, null);
+            this.frameMarkers.put(marker.getId(), marker);
+        }
+        ((OptimizedMapLevelBridge) frame.level).mapOptimizationBridge$trackMap((MapItemSavedData) (Object) this);
+    }
+
+    @Override
+    public void mapOptimizationBridge$removeItemFrame(final ItemFrame frame) {
+        this.mapOptimization$itemFrames.remove(frame);
+        this.decorations.remove("frame-" + frame.getId());
+        this.frameMarkers.remove(MapFrame.frameId(frame.getPos()));
+    }
+
+    @Override
+    public boolean mapOptimizationBridge$tickMap(final int tickCount) {
+        if (this.mapOptimization$lastTick == tickCount) {
+            return this.mapOptimization$active;
+        }
+        this.mapOptimization$lastTick = tickCount;
+
+        final Set<ServerPlayer> viewers = new ReferenceOpenHashSet<>();
+        this.mapOptimization$tickHolders(viewers);
+        if (tickCount % MapItemSavedDataMixin_Optimization_Map.FRAME_VIEWER_UPDATE_INTERVAL == 0) {
+            this.mapOptimization$updateFrameViewers();
+        }
+        viewers.addAll(this.mapOptimization$frameViewers);
+
+        this.mapOptimization$active = !this.carriedBy.isEmpty() || !this.mapOptimization$itemFrames.isEmpty();
+        if (!this.mapOptimization$active || this.mapOptimization$mapId == -1) {
+            this.mapOptimization$syncedViewers.clear();
+            return this.mapOptimization$active;
+        }
+
+        this.mapOptimization$sendUpdates(viewers, tickCount);
+        this.mapOptimization$syncedViewers.retainAll(viewers);
+        this.mapOptimization$syncedViewers.addAll(viewers);
+        return true;
+    }
+
+    /**
+     * Drops players who stopped holding this map since the last tick, and
+     * updates the decorations of those still holding it. Holders are
+     * revalidated each tick from the inventory tick of the map item.
+     */
+    private void mapOptimization$tickHolders(final Set<ServerPlayer> viewers) {
+        for (final Iterator<MapItemSavedData.HoldingPlayer> iterator = this.carriedBy.iterator(); iterator.hasNext(); ) {
+            final MapItemSavedData.HoldingPlayer holder = iterator.next();
+            final OptimizedMapInfoBridge info = (OptimizedMapInfoBridge) holder;
+            final Player player = holder.player;
+            final String name = player.getName().getString();
+            if (player.removed || !info.mapOptimizationBridge$isValid()) {
+                iterator.remove();
+                this.carriedByPlayers.remove(player);
+                this.decorations.remove(name);
+                continue;
+            }
+            info.mapOptimizationBridge$setValid(false);
+            if (player.level.dimension() == this.dimension && this.trackingPosition) {
+                this.shadow$addDecoration(MapDecoration.Type.PLAYER, player.level, name, player.getX(), player.getZ(), player.yRot, null);
+            }
+            if (player instanceof ServerPlayer) {
+                viewers.add((ServerPlayer) player);
+            }
+        }
+    }
+
+    /**
+     * Collects the players tracking any item frame displaying this map, and
+     * forgets frames that were removed or unloaded.
+     */
+    private void mapOptimization$updateFrameViewers() {
+        this.mapOptimization$frameViewers.clear();
+        for (final Iterator<ItemFrame> iterator = this.mapOptimization$itemFrames.iterator(); iterator.hasNext(); ) {
+            final ItemFrame frame = iterator.next();
+            final ServerLevel level = (ServerLevel) frame.level;
+            if (frame.removed || level.getEntity(frame.getId()) != frame) {
+                iterator.remove();
+                this.decorations.remove("frame-" + frame.getId());
+                continue;
+            }
+            final @Nullable ChunkMap_TrackedEntityAccessor tracked =
+                ((ChunkMapAccessor) level.getChunkSource().chunkMap).accessor$entityMap().get(frame.getId());
+            if (tracked != null) {
+                this.mapOptimization$frameViewers.addAll(tracked.accessor$seenBy());
+            }
+        }
+    }
+
+    /**
+     * Sends the full map to new viewers, and a single shared packet with the
+     * dirty region, or with only the decorations, to everyone else.
+     */
+    private void mapOptimization$sendUpdates(final Set<ServerPlayer> viewers, final int tickCount) {
+        @Nullable Packet<?> fullPacket = null;
+        @Nullable Packet<?> updatePacket = null;
+        if (this.mapOptimization$dirty) {
+            updatePacket = this.mapOptimization$createPacket(this.mapOptimization$minDirtyX, this.mapOptimization$minDirtyY,
+                this.mapOptimization$maxDirtyX + 1 - this.mapOptimization$minDirtyX, this.mapOptimization$maxDirtyY + 1 - this.mapOptimization$minDirtyY);
+            this.mapOptimization$dirty = false;
+        } else if (tickCount % MapItemSavedDataMixin_Optimization_Map.DECORATION_UPDATE_INTERVAL == 0) {
+            updatePacket = this.mapOptimization$createPacket(0, 0, 0, 0);
+        }
+        for (final ServerPlayer viewer : viewers) {
+            if (!this.mapOptimization$syncedViewers.contains(viewer)) {
+                if (fullPacket == null) {
+                    fullPacket = this.mapOptimization$createPacket(0, 0, MapItemSavedDataMixin_Optimization_Map.MAP_SIZE,
+                        MapItemSavedDataMixin_Optimization_Map.MAP_SIZE);
+                }
+                viewer.connection.send(fullPacket);
+            } else if (updatePacket != null) {
+                viewer.connection.send(updatePacket);
+            }
+        }
+    }
+
+    private Packet<?> mapOptimization$createPacket(final int x, final int y, final int width, final int height) {
+        return new ClientboundMapItemDataPacket(this.mapOptimization$mapId, this.scale, this.trackingPosition, this.locked,
+            this.decorations.values(), this.colors, x, y, width, height);
+    }
+}
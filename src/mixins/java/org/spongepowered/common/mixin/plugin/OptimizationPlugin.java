@@ -56,29 +56,22 @@ public boolean shouldApplyMixin(final String targetClassName, final String mixin
             .put("org.spongepowered.common.mixin.optimization.general.DataFixersMixin_Optimization_LazyDFU", optimizationCategory -> optimizationCategory.enableLazyDFU)
             .put("org.spongepowered.common.mixin.optimization.entity.EntityMixin_Optimization_Collision", optimizationCategory -> optimizationCategory.useActiveChunksForCollisions)
             .put("org.spongepowered.common.mixin.optimization.world.entity.TamableAnimalMixin_Optimization_Owner", optimizationCategory -> optimizationCategory.cacheTameableOwners)
+            .put("org.spongepowered.common.mixin.optimization.tileentity.TileEntityMixin_Optimization_Hopper", optimizationCategory -> optimizationCategory.optimizeHoppers)
+            .put("org.spongepowered.common.mixin.optimization.tileentity.HopperTileEntityMixin_Optimization_Hopper", optimizationCategory -> optimizationCategory.optimizeHoppers)
+            .put("org.spongepowered.common.mixin.optimization.world.level.chunk.LevelChunkMixin_Optimization_Hopper", optimizationCategory -> optimizationCategory.optimizeHoppers)
+            .put("org.spongepowered.common.mixin.optimization.server.level.ServerEntityMixin_Optimization_Map", optimizationCategory -> optimizationCategory.optimizeMaps)
+            .put("org.spongepowered.common.mixin.optimization.server.level.ServerLevelMixin_Optimization_Map", optimizationCategory -> optimizationCategory.optimizeMaps)
+            .put("org.spongepowered.common.mixin.optimization.world.entity.decoration.ItemFrameMixin_Optimization_Map", optimizationCategory -> optimizationCategory.optimizeMaps)
+            .put("org.spongepowered.common.mixin.optimization.world.item.MapItemMixin_Optimization_Map", optimizationCategory -> optimizationCategory.optimizeMaps)
+            .put("org.spongepowered.common.mixin.optimization.world.level.saveddata.maps.MapItemSavedDataMixin_Optimization_Map", optimizationCategory -> optimizationCategory.optimizeMaps)
+            .put("org.spongepowered.common.mixin.optimization.world.level.saveddata.maps.MapItemSavedData_HoldingPlayerMixin_Optimization_Map", optimizationCategory -> optimizationCategory.optimizeMaps)
+            .put("org.spongepowered.common.mixin.optimization.world.level.chunk.PalettedContainerMixin_Optimization_Serialization",
+                    optimizationCategory -> optimizationCategory.cacheChunkSectionSerialization)
 // TODO investigate what is still relevant and add them back
-//            .put("org.spongepowered.common.mixin.optimization.SpongeImplHooksMixin_Item_Pre_Merge",
-//                    optimizationCategory -> optimizationCategory.dropsPreMerge)
 //            .put("org.spongepowered.common.mixin.optimization.mcp.block.BlockRedstoneWireMixin_Eigen", optimizationCategory -> optimizationCategory.eigenRedstone.enabled)
 //            .put("org.spongepowered.common.accessor.block.BlockRedstoneWireAccessor_Eigen", optimizationCategory -> optimizationCategory.eigenRedstone.enabled)
 //            .put("org.spongepowered.common.mixin.optimization.mcp.entity.passive.TameableEntity_Optimization_Owner",
 //                    optimizationCategory -> optimizationCategory.cacheTameableOwners)
-//            .put("org.spongepowered.common.mixin.optimization.mcp.entity.item.ItemFrameEntityMixin_Optimization_Map",
-//                    optimizationCategory -> optimizationCategory.optimizeMaps)
-//            .put("org.spongepowered.common.mixin.invalid.optimization.entity.EntityTrackerEntryMixin_MapOptimization",
-//                    optimizationCategory -> optimizationCategory.optimizeMaps)
-//            .put("org.spongepowered.common.mixin.optimization.mcp.item.ItemMapMixin_MapOptimization",
-//                    optimizationCategory -> optimizationCategory.optimizeMaps)
-//            .put("org.spongepowered.common.mixin.optimization.mcp.world.storage.MapDataMixin_MapOptimization",
-//                    optimizationCategory -> optimizationCategory.optimizeMaps)
-//            .put("org.spongepowered.common.mixin.optimization.mcp.world.storage.MapInfoMixin_MapOptimization",
-//                    optimizationCategory -> optimizationCategory.optimizeMaps)
-//            .put("org.spongepowered.common.mixin.optimization.mcp.server.MinecraftServerMixin_MapOptimization",
-//                    optimizationCategory -> optimizationCategory.optimizeMaps)
-//            .put("org.spongepowered.common.mixin.optimization.mcp.tileentity.TileEntityMixin_Optimization_Hopper",
-//                    optimizationCategory -> optimizationCategory.optimizeHoppers)
-//            .put("org.spongepowered.common.mixin.optimization.mcp.tileentity.HopperTileEntityMixin_Optimization_Hopper",
-//                    optimizationCategory -> optimizationCategory.optimizeHoppers)
 //            .put("org.spongepowered.common.mixin.optimization.mcp.entity.EntityMixin_UseActiveChunkForCollisions",
 //                    optimizationCategory -> optimizationCategory.useActiveChunksForCollisions)
 //            .put("org.spongepowered.common.mixin.optimization.mcp.world.WorldMixin_UseActiveChunkForCollisions",
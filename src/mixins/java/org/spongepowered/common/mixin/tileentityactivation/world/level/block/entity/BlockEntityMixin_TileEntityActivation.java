@@ -31,7 +31,7 @@
 @Mixin(BlockEntity.class)
 public abstract class BlockEntityMixin_TileEntityActivation implements ActivationCapabilityBridge {
 
-    private boolean tileEntityActivation$refreshCache = false;
+    private boolean tileEntityActivation$refreshCache = true;
     private boolean tileEntityActivation$defaultActivationState = true;
     private long tileEntityActivation$activatedTick = Integer.MIN_VALUE;
     private int tileEntityActivation$activationRange;
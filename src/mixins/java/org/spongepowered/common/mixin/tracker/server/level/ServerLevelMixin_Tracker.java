@@ -817,8 +817,9 @@ public boolean destroyBlock(final BlockPos pos, final boolean doDrops, @Nullable
             }
         }
 
-        if (current.allowsBulkEntityCaptures()) {
-            current.getTransactor().logEntitySpawn(current, this, entityIn);
+        if (current.allowsBulkEntityCaptures() && !current.getTransactor().logEntitySpawn(current, this, entityIn)) {
+            // Merged into an already captured entity, which is reported in its place
+            cir.setReturnValue(true);
         }
     }
 }
@@ -117,6 +117,9 @@ public void finalizeExplosion(final boolean spawnParticles) {
             // Vanilla - uses a list of itemstacks to do a bunch of pre-merging
             // ObjectArrayList<Pair<ItemStack, BlockPos>> objectarraylist = new ObjectArrayList<>();
             Collections.shuffle(this.toBlow, this.level.random);
+            // The phase context and the air state are the same for every block of this explosion
+            final PhaseContext<@NonNull ?> context = PhaseTracker.getInstance().getPhaseContext();
+            final BlockState air = Blocks.AIR.defaultBlockState();
 
             for (final BlockPos blockpos : this.toBlow) {
                 final BlockState blockstate = this.level.getBlockState(blockpos);
@@ -140,8 +143,7 @@ public void finalizeExplosion(final boolean spawnParticles) {
                     //this.level.setBlock(blockpos, Blocks.AIR.defaultState(), 3);
                     //block.onExplosionDestroy(this.world, blockpos, this);
 
-                    final PhaseContext<@NonNull ?> context = PhaseTracker.getInstance().getPhaseContext();
-                    ((TrackedWorldBridge) this.level).bridge$startBlockChange(blockpos1, Blocks.AIR.defaultBlockState(), 3)
+                    ((TrackedWorldBridge) this.level).bridge$startBlockChange(blockpos1, air, 3)
                         .ifPresent(builder -> {
                             final WorldPipeline build = builder
                                 .addEffect(AddBlockLootDropsEffect.getInstance())
@@ -149,7 +151,7 @@ public void finalizeExplosion(final boolean spawnParticles) {
                                 .addEffect(SpawnDestructBlocksEffect.getInstance())
                                 .addEffect(WorldBlockChangeCompleteEffect.getInstance())
                                 .build();
-                            build.processEffects(context, blockstate, Blocks.AIR.defaultBlockState(), blockpos1,
+                            build.processEffects(context, blockstate, air, blockpos1,
                                 null,
                                 BlockChangeFlagManager.fromNativeInt(3),
                                 Constants.World.DEFAULT_BLOCK_CHANGE_LIMIT);
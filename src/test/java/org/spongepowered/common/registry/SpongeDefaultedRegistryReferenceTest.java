@@ -0,0 +1,68 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.registry;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.registry.Registry;
+import org.spongepowered.api.registry.RegistryHolder;
+import org.spongepowered.api.registry.RegistryKey;
+import org.spongepowered.api.registry.RegistryType;
+
+class SpongeDefaultedRegistryReferenceTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void resolvesOncePerGeneration() {
+        final RegistryType<Object> type = mock(RegistryType.class);
+        final ResourceKey location = mock(ResourceKey.class);
+        final RegistryKey<Object> key = mock(RegistryKey.class);
+        when(key.registry()).thenReturn(type);
+        when(key.location()).thenReturn(location);
+
+        final Object first = new Object();
+        final Object second = new Object();
+        final Registry<Object> registry = mock(Registry.class);
+        when(registry.value(location)).thenReturn(first, second);
+        final RegistryHolder holder = mock(RegistryHolder.class);
+        when(holder.registry(type)).thenReturn(registry);
+
+        final SpongeDefaultedRegistryReference<Object> reference = new SpongeDefaultedRegistryReference<>(key, () -> holder);
+        assertSame(first, reference.get());
+        assertSame(first, reference.get());
+        verify(registry, times(1)).value(location);
+
+        SpongeDefaultedRegistryReference.invalidateAll();
+        assertSame(second, reference.get());
+        assertSame(second, reference.get());
+        verify(registry, times(2)).value(location);
+    }
+}
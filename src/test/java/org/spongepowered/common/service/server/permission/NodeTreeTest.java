@@ -92,6 +92,21 @@ public void testWithAll() throws Exception {
         Assertions.assertEquals(Tristate.FALSE, newTree.get("something.new"));
     }
 
+    @Test
+    public void testWithValueKeepsParentValues() {
+        final Map<String, Boolean> testPermissions = new HashMap<>();
+        testPermissions.put("generate", true);
+        testPermissions.put("generate.sunset", false);
+
+        final NodeTree oldTree = NodeTreeTest.FACTORY.ofBooleans(testPermissions, Tristate.UNDEFINED);
+        final NodeTree newTree = oldTree.withValue("generate.sunset.red", Tristate.TRUE);
+
+        Assertions.assertEquals(Tristate.TRUE, newTree.get("generate"));
+        Assertions.assertEquals(Tristate.FALSE, newTree.get("generate.sunset"));
+        Assertions.assertEquals(Tristate.TRUE, newTree.get("generate.sunset.red"));
+        Assertions.assertEquals(testPermissions, oldTree.asMap());
+    }
+
     @Test
     public void testCreateFromValues() throws Exception {
         final Map<String, Boolean> testPermissions = new HashMap<>();
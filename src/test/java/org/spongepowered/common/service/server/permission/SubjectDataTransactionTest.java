@@ -0,0 +1,105 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.server.permission;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.service.context.Context;
+import org.spongepowered.api.service.permission.NodeTree;
+import org.spongepowered.api.service.permission.Subject;
+import org.spongepowered.api.util.Tristate;
+
+import java.util.Collections;
+import java.util.Set;
+
+public class SubjectDataTransactionTest {
+
+    private static final NodeTree.Factory FACTORY = new SpongeNodeTree.FactoryImpl();
+    private static final Set<Context> GLOBAL = Collections.emptySet();
+
+    @Test
+    public void testCommitAppliesBatch() {
+        final CountingSubjectData first = SubjectDataTransactionTest.subjectData();
+        final CountingSubjectData second = SubjectDataTransactionTest.subjectData();
+
+        final boolean changed = new SubjectDataTransaction()
+            .setPermission(first.subject(), SubjectDataTransactionTest.GLOBAL, "generate.rainbow", Tristate.TRUE)
+            .setPermission(first.subject(), SubjectDataTransactionTest.GLOBAL, "generate.sunset", Tristate.FALSE)
+            .setOption(second.subject(), SubjectDataTransactionTest.GLOBAL, "prefix", "[Admin]")
+            .commit()
+            .join();
+
+        Assertions.assertTrue(changed);
+        Assertions.assertEquals(Tristate.TRUE, first.nodeTree(SubjectDataTransactionTest.GLOBAL).get("generate.rainbow"));
+        Assertions.assertEquals(Tristate.FALSE, first.nodeTree(SubjectDataTransactionTest.GLOBAL).get("generate.sunset"));
+        Assertions.assertEquals("[Admin]", second.options(SubjectDataTransactionTest.GLOBAL).get("prefix"));
+        // Each subject is updated once for the whole batch
+        Assertions.assertEquals(1, first.updates);
+        Assertions.assertEquals(1, second.updates);
+    }
+
+    @Test
+    public void testCommitWithoutChanges() {
+        final CountingSubjectData data = SubjectDataTransactionTest.subjectData();
+        new SubjectDataTransaction()
+            .setPermission(data.subject(), SubjectDataTransactionTest.GLOBAL, "generate.rainbow", Tristate.TRUE)
+            .setOption(data.subject(), SubjectDataTransactionTest.GLOBAL, "prefix", "[Admin]")
+            .commit()
+            .join();
+
+        final boolean changed = new SubjectDataTransaction()
+            .setPermission(data.subject(), SubjectDataTransactionTest.GLOBAL, "generate.rainbow", Tristate.TRUE)
+            .setOption(data.subject(), SubjectDataTransactionTest.GLOBAL, "prefix", "[Admin]")
+            .commit()
+            .join();
+
+        Assertions.assertFalse(changed);
+        Assertions.assertEquals(1, data.updates);
+    }
+
+    private static CountingSubjectData subjectData() {
+        final Subject subject = Mockito.mock(Subject.class);
+        final CountingSubjectData data = new CountingSubjectData(subject);
+        Mockito.when(subject.subjectData()).thenReturn(data);
+        // Start from an existing tree, creating an empty one goes through the game's factory provider
+        data.permissions.put(SubjectDataTransactionTest.GLOBAL, SubjectDataTransactionTest.FACTORY.ofTristates(Collections.emptyMap(), Tristate.UNDEFINED));
+        return data;
+    }
+
+    private static final class CountingSubjectData extends MemorySubjectData {
+
+        int updates;
+
+        CountingSubjectData(final Subject subject) {
+            super(subject);
+        }
+
+        @Override
+        protected void onUpdate() {
+            this.updates++;
+        }
+    }
+}
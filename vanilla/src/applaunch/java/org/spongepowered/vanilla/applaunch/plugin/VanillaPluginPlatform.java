@@ -36,6 +36,7 @@
 import org.spongepowered.plugin.builtin.jvm.JVMKeys;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -47,6 +48,7 @@
 import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 public final class VanillaPluginPlatform implements PluginPlatform {
 
@@ -187,20 +189,28 @@ public void locatePluginResources() {
     public void createPluginCandidates() {
         for (final Map.Entry<String, PluginLanguageService<PluginResource>> languageEntry : this.languageServices.entrySet()) {
             final PluginLanguageService<PluginResource> languageService = languageEntry.getValue();
+            final List<PluginResource> pluginResources = new ArrayList<>();
             for (final Map.Entry<String, Set<PluginResource>> resourcesEntry : this.locatorResources.entrySet()) {
+                pluginResources.addAll(resourcesEntry.getValue());
+            }
 
-                for (final PluginResource pluginResource : resourcesEntry.getValue()) {
+            // Reading the metadata of each resource is independent from the others, so they are read
+            // in parallel. The ordered stream keeps the candidates in the same order as a sequential read.
+            final List<List<PluginCandidate<PluginResource>>> candidates = pluginResources.parallelStream()
+                .map(pluginResource -> {
                     try {
-                        final List<PluginCandidate<PluginResource>> candidates = languageService.createPluginCandidates(this.standardEnvironment,
-                                pluginResource);
-                        if (candidates.isEmpty()) {
-                            continue;
-                        }
-                        this.pluginCandidates.computeIfAbsent(languageService, k -> new LinkedList<>()).addAll(candidates);
+                        return languageService.createPluginCandidates(this.standardEnvironment, pluginResource);
                     } catch (final Exception ex) {
                         ex.printStackTrace();
+                        return Collections.<PluginCandidate<PluginResource>>emptyList();
                     }
+                })
+                .collect(Collectors.toList());
+            for (final List<PluginCandidate<PluginResource>> resourceCandidates : candidates) {
+                if (resourceCandidates.isEmpty()) {
+                    continue;
                 }
+                this.pluginCandidates.computeIfAbsent(languageService, k -> new LinkedList<>()).addAll(resourceCandidates);
             }
         }
     }